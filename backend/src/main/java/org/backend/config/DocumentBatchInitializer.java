@@ -0,0 +1,29 @@
+package org.backend.config;
+
+import org.backend.service.document.DocumentBatchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks up batch document jobs that were still running when the application last stopped.
+ */
+@Component
+public class DocumentBatchInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentBatchInitializer.class);
+
+    @Autowired
+    private DocumentBatchService documentBatchService;
+
+    @Override
+    public void run(String... args) {
+        try {
+            documentBatchService.resumeUnfinished();
+        } catch (Exception e) {
+            logger.error("Failed to resume document batches: {}", e.getMessage(), e);
+        }
+    }
+}
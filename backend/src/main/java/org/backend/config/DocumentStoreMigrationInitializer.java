@@ -0,0 +1,36 @@
+package org.backend.config;
+
+import org.backend.service.document.DocumentStoreMigration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves attachments still recorded as file paths into the document store at startup.
+ */
+@Component
+public class DocumentStoreMigrationInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentStoreMigrationInitializer.class);
+
+    @Autowired
+    private DocumentStoreMigration documentStoreMigration;
+
+    @Value("${documents.store.migrate-on-startup:true}")
+    private boolean migrateOnStartup;
+
+    @Override
+    public void run(String... args) {
+        if (!migrateOnStartup) {
+            return;
+        }
+        try {
+            documentStoreMigration.migrate();
+        } catch (Exception e) {
+            logger.error("Failed to migrate documents into the document store: {}", e.getMessage(), e);
+        }
+    }
+}
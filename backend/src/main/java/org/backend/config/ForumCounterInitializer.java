@@ -0,0 +1,43 @@
+package org.backend.config;
+
+import org.backend.repository.ForumCommentRepository;
+import org.backend.repository.ForumPostRepository;
+import org.backend.service.forum.ForumFeedCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Brings the denormalized like_count columns in line with post_likes/comment_likes on startup.
+ * Only rows whose counter disagrees with the join table are rewritten.
+ */
+@Component
+public class ForumCounterInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ForumCounterInitializer.class);
+
+    @Autowired
+    private ForumPostRepository postRepository;
+
+    @Autowired
+    private ForumCommentRepository commentRepository;
+
+    @Autowired
+    private ForumFeedCache feedCache;
+
+    @Override
+    public void run(String... args) {
+        try {
+            int posts = postRepository.recountLikeCounts();
+            int comments = commentRepository.recountLikeCounts();
+            logger.info("Reconciled like counts for {} posts and {} comments", posts, comments);
+            if (posts > 0) {
+                feedCache.invalidate();
+            }
+        } catch (Exception e) {
+            logger.error("Failed to reconcile forum like counts: {}", e.getMessage(), e);
+        }
+    }
+}
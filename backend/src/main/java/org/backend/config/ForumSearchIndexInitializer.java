@@ -0,0 +1,30 @@
+package org.backend.config;
+
+import org.backend.service.forum.ForumSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the forum search index from its local snapshot on startup, rebuilding it from the
+ * database when the snapshot is missing or unreadable.
+ */
+@Component
+public class ForumSearchIndexInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ForumSearchIndexInitializer.class);
+
+    @Autowired
+    private ForumSearchService searchService;
+
+    @Override
+    public void run(String... args) {
+        try {
+            searchService.initialize();
+        } catch (Exception e) {
+            logger.error("Failed to initialize forum search index: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.backend.config;
+
+import org.backend.service.forum.ForumTrendingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Restores the forum trending ranking from its last database checkpoint on startup.
+ */
+@Component
+public class ForumTrendingInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ForumTrendingInitializer.class);
+
+    @Autowired
+    private ForumTrendingService trendingService;
+
+    @Override
+    public void run(String... args) {
+        try {
+            trendingService.initialize();
+        } catch (Exception e) {
+            logger.error("Failed to restore forum trending scores: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.backend.config;
+
+import org.backend.service.moderation.ModerationQueueService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the moderation queue from the existing report tables the first time it is deployed, then
+ * loads the priority index from it.
+ */
+@Component
+public class ModerationQueueInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModerationQueueInitializer.class);
+
+    @Autowired
+    private ModerationQueueService moderationQueueService;
+
+    @Override
+    public void run(String... args) {
+        try {
+            moderationQueueService.backfillIfEmpty();
+            moderationQueueService.rebuildPriorityIndex();
+        } catch (Exception e) {
+            logger.error("Failed to backfill moderation queue: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.backend.config;
+
+import org.backend.service.moderation.ModerationQueueService;
+import org.backend.service.moderation.ReportDuplicateFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Clears out duplicate reports and loads the duplicate report filter. Runs before the other
+ * initializers so the moderation queue is never built from duplicates.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReportDuplicateInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportDuplicateInitializer.class);
+
+    @Autowired
+    private ReportDuplicateFilter reportDuplicateFilter;
+
+    @Autowired
+    private ModerationQueueService moderationQueueService;
+
+    @Override
+    public void run(String... args) {
+        try {
+            if (reportDuplicateFilter.removeDuplicates() > 0) {
+                // The queue still counts the removed reports
+                moderationQueueService.rebuild();
+            }
+        } catch (Exception e) {
+            logger.error("Failed to remove duplicate reports: {}", e.getMessage(), e);
+        }
+        try {
+            reportDuplicateFilter.rebuild();
+        } catch (Exception e) {
+            logger.error("Failed to load duplicate report filter: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.backend.config;
+
+import org.backend.service.moderation.ReportStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the report analytics rollups from the existing report tables the first time they are deployed.
+ */
+@Component
+public class ReportStatsInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportStatsInitializer.class);
+
+    @Autowired
+    private ReportStatsService reportStatsService;
+
+    @Override
+    public void run(String... args) {
+        try {
+            reportStatsService.backfillIfEmpty();
+        } catch (Exception e) {
+            logger.error("Failed to backfill report stats: {}", e.getMessage(), e);
+        }
+    }
+}
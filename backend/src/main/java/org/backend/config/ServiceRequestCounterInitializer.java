@@ -0,0 +1,29 @@
+package org.backend.config;
+
+import org.backend.service.servicerequest.ServiceRequestCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the service request counters from the database at startup.
+ */
+@Component
+public class ServiceRequestCounterInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRequestCounterInitializer.class);
+
+    @Autowired
+    private ServiceRequestCounters serviceRequestCounters;
+
+    @Override
+    public void run(String... args) {
+        try {
+            serviceRequestCounters.initialize();
+        } catch (Exception e) {
+            logger.error("Failed to seed service request counters: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.backend.config;
+
+import org.backend.service.servicerequest.ServiceRequestTransitionLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the service request turnaround percentiles from the transition log at startup.
+ */
+@Component
+public class ServiceRequestTransitionLogInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRequestTransitionLogInitializer.class);
+
+    @Autowired
+    private ServiceRequestTransitionLog serviceRequestTransitionLog;
+
+    @Override
+    public void run(String... args) {
+        try {
+            serviceRequestTransitionLog.initialize();
+        } catch (Exception e) {
+            logger.error("Failed to seed service request turnaround percentiles: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.backend.config;
+
+import org.backend.service.servicerequest.ServiceRequestTracking;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renumbers service requests left with duplicate tracking numbers by the old random generator, so
+ * the unique index on tracking numbers can be created.
+ */
+@Component
+public class TrackingNumberInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrackingNumberInitializer.class);
+
+    @Autowired
+    private ServiceRequestTracking serviceRequestTracking;
+
+    @Override
+    public void run(String... args) {
+        try {
+            serviceRequestTracking.repairTrackingNumbers();
+        } catch (Exception e) {
+            logger.error("Failed to repair service request tracking numbers: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.backend.config;
+
+import org.backend.model.ERole;
+import org.backend.security.jwt.JwtUtils;
+import org.backend.security.services.UserDetailsServiceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Authenticates STOMP sessions and guards what they may subscribe to.
+ *
+ * On CONNECT the JWT is taken from the Authorization header of the frame, or failing that from the
+ * token query parameter kept by {@link WebSocketHandshakeInterceptor}, and the user it names becomes
+ * the session's Principal; that is what {@code /user/queue/...} destinations are resolved against.
+ * Sessions without a valid token stay anonymous and can still follow the public topics.
+ *
+ * SUBSCRIBE frames for officials-only topics are dropped unless the session belongs to an official,
+ * and broker queues can only be reached through their {@code /user} form, so nobody can subscribe
+ * to another session's queue by name.
+ *
+ * Clients may only SEND to {@code /app} destinations. Everything on {@code /topic}, {@code /queue}
+ * and {@code /user} is published by the server, so a SEND straight to one of them is dropped;
+ * otherwise any session could push forged updates to officials or to another resident.
+ */
+@Component
+public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketAuthChannelInterceptor.class);
+
+    private static final String APPLICATION_PREFIX = "/app/";
+    private static final List<String> OFFICIAL_DESTINATIONS = List.of("/topic/officials/", "/topic/document-batches");
+    private static final String OFFICIAL_AUTHORITY = ERole.ROLE_OFFICIAL.name();
+
+    private final JwtUtils jwtUtils;
+    private final UserDetailsServiceImpl userDetailsService;
+
+    public WebSocketAuthChannelInterceptor(JwtUtils jwtUtils, UserDetailsServiceImpl userDetailsService) {
+        this.jwtUtils = jwtUtils;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            authenticate(accessor);
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand()) && !maySubscribe(accessor)) {
+            logger.warn("Refused subscription of {} to {}", describe(accessor.getUser()), accessor.getDestination());
+            return null;
+        } else if (StompCommand.SEND.equals(accessor.getCommand()) && !maySend(accessor)) {
+            logger.warn("Refused message from {} to {}", describe(accessor.getUser()), accessor.getDestination());
+            return null;
+        }
+        return message;
+    }
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        String token = bearerToken(accessor.getFirstNativeHeader("Authorization"));
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (token == null && attributes != null && attributes.get("token") instanceof String handshakeToken) {
+            token = handshakeToken;
+        }
+        if (token == null) {
+            return;
+        }
+        if (!jwtUtils.validateJwtToken(token)) {
+            logger.warn("WebSocket session {} connected with an invalid token; continuing anonymously", accessor.getSessionId());
+            return;
+        }
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(jwtUtils.getUserNameFromJwtToken(token));
+            accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        } catch (Exception e) {
+            logger.warn("Cannot authenticate WebSocket session {}: {}", accessor.getSessionId(), e.getMessage());
+        }
+    }
+
+    private static boolean maySubscribe(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return false;
+        }
+        if (destination.startsWith("/queue/")) {
+            return false;
+        }
+        if (destination.startsWith("/user/")) {
+            return accessor.getUser() != null;
+        }
+        if (OFFICIAL_DESTINATIONS.stream().anyMatch(destination::startsWith)) {
+            return isOfficial(accessor.getUser());
+        }
+        return true;
+    }
+
+    private static boolean maySend(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        return destination != null && destination.startsWith(APPLICATION_PREFIX);
+    }
+
+    private static boolean isOfficial(Principal principal) {
+        return principal instanceof Authentication authentication
+                && authentication.getAuthorities().stream()
+                        .anyMatch(authority -> OFFICIAL_AUTHORITY.equals(authority.getAuthority()));
+    }
+
+    private static String bearerToken(String header) {
+        return StringUtils.hasText(header) && header.startsWith("Bearer ") ? header.substring(7) : null;
+    }
+
+    private static String describe(Principal principal) {
+        return principal != null ? principal.getName() : "an anonymous session";
+    }
+}
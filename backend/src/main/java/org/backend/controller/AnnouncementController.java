@@ -8,12 +8,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.backend.exception.ResourceNotFoundException;
 import org.backend.model.Announcement;
 import org.backend.payload.request.AnnouncementRequest;
 import org.backend.payload.response.AnnouncementResponse;
 import org.backend.payload.response.MessageResponse;
 import org.backend.service.AnnouncementService;
 import org.backend.service.StorageService;
+import org.backend.service.media.ImageProcessingService;
+import org.backend.service.media.SpooledUpload;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +24,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -32,6 +36,7 @@ public class AnnouncementController {
 
     private final AnnouncementService announcementService;
     private final StorageService storageService;
+    private final ImageProcessingService imageProcessingService;
 
     @Operation(summary = "Get all announcements", description = "Retrieve all barangay announcements")
     @ApiResponses(value = {
@@ -85,15 +90,20 @@ public class AnnouncementController {
             request.setContent(content);
             request.setOfficialId(officialId);
             
-            // Upload thumbnail if provided
-            String thumbnailUrl = null;
-            if (thumbnail != null && !thumbnail.isEmpty()) {
-                thumbnailUrl = storageService.uploadFile(thumbnail, "announcements");
-                request.setThumbnailUrl(thumbnailUrl);
-            }
+            // Spool the thumbnail; it is resized and uploaded after the announcement exists
+            SpooledUpload upload = spoolThumbnail(thumbnail);
             
             // Create the announcement
-            AnnouncementResponse createdAnnouncement = announcementService.createAnnouncement(request);
+            AnnouncementResponse createdAnnouncement;
+            try {
+                createdAnnouncement = announcementService.createAnnouncement(request);
+            } catch (RuntimeException e) {
+                if (upload != null) {
+                    upload.discard();
+                }
+                throw e;
+            }
+            processThumbnail(createdAnnouncement.getId(), upload);
             
             return ResponseEntity.status(HttpStatus.CREATED).body(createdAnnouncement);
         } catch (Exception e) {
@@ -125,31 +135,24 @@ public class AnnouncementController {
             @RequestParam(value = "thumbnail", required = false) MultipartFile thumbnail
     ) {
         try {
-            // First get the existing announcement to check if we need to delete the old thumbnail
-            AnnouncementResponse existingAnnouncement = announcementService.getAnnouncementById(id);
-            
-            // Create announcement request object
+            // Create announcement request object; the existing thumbnail is kept until a new one is processed
             AnnouncementRequest request = new AnnouncementRequest();
             request.setTitle(title);
             request.setContent(content);
             
-            // Upload new thumbnail if provided
-            if (thumbnail != null && !thumbnail.isEmpty()) {
-                // Delete old thumbnail if exists
-                if (existingAnnouncement.getThumbnailUrl() != null) {
-                    storageService.deleteFile(existingAnnouncement.getThumbnailUrl());
-                }
-                
-                // Upload new thumbnail
-                String thumbnailUrl = storageService.uploadFile(thumbnail, "announcements");
-                request.setThumbnailUrl(thumbnailUrl);
-            } else {
-                // Keep existing thumbnail if no new one is provided
-                request.setThumbnailUrl(existingAnnouncement.getThumbnailUrl());
-            }
+            SpooledUpload upload = spoolThumbnail(thumbnail);
             
             // Update the announcement
-            AnnouncementResponse updatedAnnouncement = announcementService.updateAnnouncement(id, request);
+            AnnouncementResponse updatedAnnouncement;
+            try {
+                updatedAnnouncement = announcementService.updateAnnouncement(id, request);
+            } catch (RuntimeException e) {
+                if (upload != null) {
+                    upload.discard();
+                }
+                throw e;
+            }
+            processThumbnail(id, upload);
             
             return ResponseEntity.ok(updatedAnnouncement);
         } catch (Exception e) {
@@ -192,4 +195,34 @@ public class AnnouncementController {
                     .body(new MessageResponse("Failed to delete announcement: " + e.getMessage()));
         }
     }
-} 
\ No newline at end of file
+
+    private SpooledUpload spoolThumbnail(MultipartFile thumbnail) throws IOException {
+        if (thumbnail == null || thumbnail.isEmpty()) {
+            return null;
+        }
+        return imageProcessingService.spool(thumbnail);
+    }
+
+    // The old thumbnail is only deleted once the new one is attached, so the announcement always has a working image
+    private void processThumbnail(Long announcementId, SpooledUpload upload) {
+        if (upload == null) {
+            return;
+        }
+        imageProcessingService.process(upload, "announcements", false,
+                processed -> {
+                    String previousUrl;
+                    try {
+                        previousUrl = announcementService.replaceThumbnail(announcementId, processed.getImageUrl());
+                    } catch (ResourceNotFoundException e) {
+                        // Deleted while the image was processing
+                        storageService.deleteFile(processed.getImageUrl());
+                        return;
+                    }
+                    if (previousUrl != null) {
+                        storageService.deleteFile(previousUrl);
+                    }
+                },
+                // Already logged by the pipeline; the announcement keeps whatever thumbnail it had
+                error -> { });
+    }
+}
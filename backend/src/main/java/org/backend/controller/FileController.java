@@ -1,15 +1,19 @@
 package org.backend.controller;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.backend.model.ServiceRequest;
+import org.backend.repository.ServiceRequestRepository;
+import org.backend.service.document.DocumentStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -24,14 +28,36 @@ public class FileController {
 
     private static final Logger logger = LoggerFactory.getLogger(FileController.class);
     private static final String DOCUMENTS_DIR = "documents";
+    private static final Pattern ATTACHED_FILENAME = Pattern.compile("attached_(\\d{1,18})_\\d+\\..*");
+
+    @Autowired
+    private DocumentStore documentStore;
+
+    @Autowired
+    private ServiceRequestRepository serviceRequestRepository;
 
     @GetMapping("/documents/{type}/{filename:.+}")
-    public ResponseEntity<byte[]> serveDocument(
+    public ResponseEntity<Resource> serveDocument(
             @PathVariable String type,
             @PathVariable String filename) {
         try {
             logger.info("Received request for document: type={}, filename={}", type, filename);
+
+            // Both segments name something inside the documents directory, never a path
+            if (!isPlainName(type) || !isPlainName(filename)) {
+                return ResponseEntity.badRequest().build();
+            }
             
+            // Storage keys are content hashes, so the bytes behind one never change
+            if (DocumentStore.isKey(filename)) {
+                Path stored = documentStore.resolve(filename);
+                if (Files.isRegularFile(stored)) {
+                    return FileResponses.inline(stored, filename, FileResponses.IMMUTABLE);
+                }
+                logger.error("Stored document not found: {}", filename);
+                return ResponseEntity.notFound().build();
+            }
+
             // Try multiple possible paths
             Path[] possiblePaths = {
                 // Absolute path with system property
@@ -40,15 +66,19 @@ public class FileController {
                 // Just the relative path
                 Paths.get(DOCUMENTS_DIR, type, filename),
                 
-                // Trying to find by ID in filename (for cases where the exact timestamp is wrong)
-                findFileByIdPattern(type, filename)
+                // The current attachment of the request named in the filename (for cases where the exact timestamp is wrong)
+                "attached".equals(type) ? findAttachmentByRequestId(filename) : null
             };
             
             // Try each path
-            for (Path path : possiblePaths) {
-                if (path != null && Files.exists(path)) {
+            for (int i = 0; i < possiblePaths.length; i++) {
+                Path path = possiblePaths[i];
+                if (path != null && Files.isRegularFile(path)) {
                     logger.info("Found file at: {}", path.toAbsolutePath());
-                    return serveFile(path, filename);
+                    // File names carry a timestamp, so an exact match never changes; the
+                    // request-ID fallback can resolve to a newer file later
+                    return FileResponses.inline(path, filename,
+                            i < 2 ? FileResponses.IMMUTABLE : FileResponses.REVALIDATE);
                 } else if (path != null) {
                     logger.warn("Path doesn't exist: {}", path.toAbsolutePath());
                 }
@@ -62,79 +92,22 @@ public class FileController {
             return ResponseEntity.internalServerError().build();
         }
     }
-    
-    private Path findFileByIdPattern(String type, String filename) throws IOException {
+
+    private Path findAttachmentByRequestId(String filename) {
         // Extract request ID from filename pattern (e.g., "attached_21_1746498036035.pdf" -> "21")
-        String requestIdStr = null;
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("attached_(\\d+)_\\d+\\..*");
-        java.util.regex.Matcher matcher = pattern.matcher(filename);
-        if (matcher.find()) {
-            requestIdStr = matcher.group(1);
-            logger.info("Extracted request ID: {} from filename: {}", requestIdStr, filename);
-        } else {
+        Matcher matcher = ATTACHED_FILENAME.matcher(filename);
+        if (!matcher.matches()) {
             logger.warn("Could not extract request ID from filename: {}", filename);
             return null;
         }
-        
-        // Create the base directory path
-        Path baseDir = Paths.get(System.getProperty("user.dir"), DOCUMENTS_DIR, type);
-        if (!Files.exists(baseDir)) {
-            logger.warn("Base directory doesn't exist: {}", baseDir.toAbsolutePath());
-            return null;
-        }
-        
-        // List all files in the directory that match the pattern "attached_{requestId}_*.pdf"
-        final String reqId = requestIdStr;
-        java.util.stream.Stream<Path> matches = Files.list(baseDir).filter(p -> {
-            String name = p.getFileName().toString();
-            return name.startsWith("attached_" + reqId + "_") && 
-                   name.substring(name.lastIndexOf('.')).equalsIgnoreCase(
-                       filename.substring(filename.lastIndexOf('.')));
-        });
-        
-        // Return the first match, if any
-        java.util.Optional<Path> match = matches.findFirst();
-        matches.close();
-        
-        if (match.isPresent()) {
-            logger.info("Found alternative file with matching request ID: {}", match.get().getFileName());
-            return match.get();
-        }
-        
-        logger.warn("No files matching request ID {} found in {}", requestIdStr, baseDir);
-        return null;
+        Long requestId = Long.valueOf(matcher.group(1));
+        return serviceRequestRepository.findById(requestId)
+                .map(ServiceRequest::getAttachedDocumentPath)
+                .map(documentStore::locate)
+                .orElse(null);
     }
 
-    private ResponseEntity<byte[]> serveFile(Path filePath, String filename) throws IOException {
-        // Determine content type based on file extension
-        String contentType = determineContentType(filename);
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(contentType));
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"");
-        
-        // Read file content
-        byte[] fileContent = Files.readAllBytes(filePath);
-        logger.info("Successfully read file: {}, size: {} bytes", filePath.toAbsolutePath(), fileContent.length);
-        
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(fileContent);
-    }
-    
-    private String determineContentType(String filename) {
-        String lowercaseFilename = filename.toLowerCase();
-        if (lowercaseFilename.endsWith(".pdf")) {
-            return "application/pdf";
-        } else if (lowercaseFilename.endsWith(".png")) {
-            return "image/png";
-        } else if (lowercaseFilename.endsWith(".jpg") || lowercaseFilename.endsWith(".jpeg")) {
-            return "image/jpeg";
-        } else if (lowercaseFilename.endsWith(".docx")) {
-            return "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
-        } else if (lowercaseFilename.endsWith(".xlsx")) {
-            return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
-        } else {
-            return "application/octet-stream";
-        }
+    private static boolean isPlainName(String name) {
+        return !name.isEmpty() && !name.contains("/") && !name.contains("\\") && !name.equals("..") && !name.equals(".");
     }
 } 
\ No newline at end of file
@@ -0,0 +1,82 @@
+package org.backend.controller;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Responses for documents stored on local disk.
+ *
+ * The body is a {@link FileSystemResource}, which Spring MVC copies to the socket through a small
+ * fixed buffer over a file channel, so a download costs the same heap whatever the file size. The
+ * ETag and Last-Modified headers set here let Spring answer If-None-Match / If-Modified-Since with
+ * 304, and because the body is a Resource it also answers Range requests with 206 and only the
+ * requested bytes, which is what lets PDF viewers open large files page by page.
+ */
+final class FileResponses {
+
+    // Attachments and certificates are never rewritten in place, but a request can get a new one
+    // under the same URL, so clients revalidate (cheaply, via the ETag) before reusing a copy
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    // For URLs that name one specific file
+    static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(7)).cachePrivate();
+
+    private FileResponses() {
+    }
+
+    static ResponseEntity<Resource> inline(Path file, String filename, CacheControl cacheControl) throws IOException {
+        return build(new FileSystemResource(file), filename, "inline", cacheControl);
+    }
+
+    static ResponseEntity<Resource> attachment(Resource resource, String filename, CacheControl cacheControl) throws IOException {
+        return build(resource, filename, "attachment", cacheControl);
+    }
+
+    static ResponseEntity<Resource> inline(Resource resource, String filename, CacheControl cacheControl) throws IOException {
+        return build(resource, filename, "inline", cacheControl);
+    }
+
+    static MediaType contentType(String filename) {
+        String lowercaseFilename = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+        if (lowercaseFilename.endsWith(".pdf")) {
+            return MediaType.APPLICATION_PDF;
+        } else if (lowercaseFilename.endsWith(".png")) {
+            return MediaType.IMAGE_PNG;
+        } else if (lowercaseFilename.endsWith(".jpg") || lowercaseFilename.endsWith(".jpeg")) {
+            return MediaType.IMAGE_JPEG;
+        } else if (lowercaseFilename.endsWith(".docx")) {
+            return MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+        } else if (lowercaseFilename.endsWith(".xlsx")) {
+            return MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        } else {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    private static ResponseEntity<Resource> build(Resource resource, String filename, String disposition,
+                                                  CacheControl cacheControl) throws IOException {
+        String name = filename != null ? filename : resource.getFilename() != null ? resource.getFilename() : "document";
+        long length = resource.contentLength();
+        long lastModified = resource.lastModified();
+
+        return ResponseEntity.ok()
+                .contentType(contentType(name))
+                .lastModified(lastModified)
+                // Changes whenever the file is replaced or rewritten
+                .eTag(Long.toHexString(length) + "-" + Long.toHexString(lastModified))
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.builder(disposition)
+                        .filename(name).build().toString())
+                .body(resource);
+    }
+}
@@ -1,20 +1,31 @@
 package org.backend.controller;
 
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.backend.model.ForumComment;
 import org.backend.model.ForumPost;
 import org.backend.model.User;
+import org.backend.payload.response.CursorPage;
+import org.backend.payload.response.ForumCommentResponse;
+import org.backend.payload.response.ForumPostResponse;
+import org.backend.payload.response.ForumSearchResult;
+import org.backend.payload.response.LikeResponse;
+import org.backend.payload.response.MessageResponse;
 import org.backend.security.services.UserDetailsImpl;
 import org.backend.service.ForumService;
 import org.backend.service.UserService;
+import org.backend.service.forum.ForumSearchService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,18 +42,25 @@ public class ForumController {
 
     private final ForumService forumService;
     private final UserService userService;
+    private final ForumSearchService searchService;
 
     // Post endpoints
     @PostMapping("/posts")
-    public ResponseEntity<ForumPost> createPost(
+    public ResponseEntity<?> createPost(
             @RequestParam("title") String title,
             @RequestParam("content") String content,
             @RequestParam(value = "image", required = false) MultipartFile image,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
         User author = userService.getUserById(userDetails.getId());
-        ForumPost post = forumService.createPost(title, content, author, image);
-        return ResponseEntity.status(HttpStatus.CREATED).body(post);
+        try {
+            ForumPost post = forumService.createPost(title, content, author, image);
+            return ResponseEntity.status(HttpStatus.CREATED).body(post);
+        } catch (IllegalArgumentException e) {
+            // The upload is not an image
+            logger.warn("Rejected post image from user {}: {}", author.getId(), e.getMessage());
+            return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
+        }
     }
 
     @GetMapping("/posts")
@@ -55,6 +73,75 @@ public class ForumController {
         return ResponseEntity.ok(posts);
     }
 
+    // Same page/size contract as /posts, but served from the lightweight projection
+    @GetMapping("/posts/summary")
+    public ResponseEntity<Page<ForumPostResponse>> getPostSummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        Long viewerId = userDetails != null ? userDetails.getId() : null;
+        Pageable pageable = PageRequest.of(page, size);
+        return ResponseEntity.ok(forumService.getPostSummaries(pageable, viewerId));
+    }
+
+    // Cursor-based feed for infinite scrolling; the page/size endpoint above stays for older clients
+    @GetMapping("/posts/feed")
+    public ResponseEntity<CursorPage<ForumPostResponse>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        Long viewerId = userDetails != null ? userDetails.getId() : null;
+        try {
+            return ResponseEntity.ok(forumService.getFeed(cursor, size, viewerId));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected feed request with invalid cursor: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Served from the in-memory ranking; the database is only hit when unseen posts climb into the top
+    @GetMapping("/posts/trending")
+    public ResponseEntity<List<ForumPostResponse>> getTrendingPosts(
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        Long viewerId = userDetails != null ? userDetails.getId() : null;
+        return ResponseEntity.ok(forumService.getTrendingPosts(limit, viewerId));
+    }
+
+    @GetMapping("/posts/feed/cache-stats")
+    @PreAuthorize("hasRole('OFFICIAL') or hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getFeedCacheStats() {
+        return ResponseEntity.ok(forumService.getFeedCacheStats());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<ForumSearchResult>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        if (q.isBlank() || page < 0 || size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(searchService.search(q, type, PageRequest.of(page, size)));
+    }
+
+    @GetMapping("/search/stats")
+    @PreAuthorize("hasRole('OFFICIAL') or hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getSearchStats() {
+        return ResponseEntity.ok(searchService.getStats());
+    }
+
+    @PostMapping("/search/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() {
+        return ResponseEntity.ok(searchService.rebuild());
+    }
+
     @GetMapping("/posts/{postId}")
     public ResponseEntity<ForumPost> getPostById(@PathVariable Long postId) {
         ForumPost post = forumService.getPostById(postId);
@@ -74,7 +161,7 @@ public class ForumController {
     }
 
     @PutMapping("/posts/{postId}")
-    public ResponseEntity<ForumPost> updatePost(
+    public ResponseEntity<?> updatePost(
             @PathVariable Long postId,
             @RequestParam("title") String title,
             @RequestParam("content") String content,
@@ -82,8 +169,14 @@ public class ForumController {
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
         User currentUser = userService.getUserById(userDetails.getId());
-        ForumPost post = forumService.updatePost(postId, title, content, image, currentUser);
-        return ResponseEntity.ok(post);
+        try {
+            ForumPost post = forumService.updatePost(postId, title, content, image, currentUser);
+            return ResponseEntity.ok(post);
+        } catch (IllegalArgumentException e) {
+            // The upload is not an image
+            logger.warn("Rejected image for post {}: {}", postId, e.getMessage());
+            return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
+        }
     }
 
     @DeleteMapping("/posts/{postId}")
@@ -104,13 +197,31 @@ public class ForumController {
     }
 
     @PostMapping("/posts/{postId}/like")
-    public ResponseEntity<ForumPost> toggleLikePost(
+    public ResponseEntity<LikeResponse> toggleLikePost(
             @PathVariable Long postId,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
         User user = userService.getUserById(userDetails.getId());
-        ForumPost post = forumService.toggleLikePost(postId, user);
-        return ResponseEntity.ok(post);
+        return ResponseEntity.ok(forumService.toggleLikePost(postId, user));
+    }
+
+    // Idempotent like/unlike for clients that retry requests
+    @PutMapping("/posts/{postId}/like")
+    public ResponseEntity<LikeResponse> likePost(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        User user = userService.getUserById(userDetails.getId());
+        return ResponseEntity.ok(forumService.setPostLike(postId, user, true));
+    }
+
+    @DeleteMapping("/posts/{postId}/like")
+    public ResponseEntity<LikeResponse> unlikePost(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        User user = userService.getUserById(userDetails.getId());
+        return ResponseEntity.ok(forumService.setPostLike(postId, user, false));
     }
 
     // Comment endpoints
@@ -131,6 +242,42 @@ public class ForumController {
         return ResponseEntity.ok(comments);
     }
 
+    // Cursor-paginated thread, oldest first; the full-list endpoint above stays for older clients
+    @GetMapping("/posts/{postId}/comments/page")
+    public ResponseEntity<CursorPage<ForumCommentResponse>> getCommentPage(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        Long viewerId = userDetails != null ? userDetails.getId() : null;
+        try {
+            return ResponseEntity.ok(forumService.getCommentPage(postId, cursor, size, viewerId));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected comment page request with invalid cursor: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // Whole thread as newline-delimited JSON, written while it is read from the database
+    @GetMapping(value = "/posts/{postId}/comments/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamComments(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        if (!forumService.postExists(postId)) {
+            return ResponseEntity.notFound().build();
+        }
+        Long viewerId = userDetails != null ? userDetails.getId() : null;
+        StreamingResponseBody body = out -> {
+            int count = forumService.streamComments(postId, viewerId, out);
+            logger.debug("Streamed {} comments for post {}", count, postId);
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<ForumComment> updateComment(
             @PathVariable Long commentId,
@@ -160,13 +307,30 @@ public class ForumController {
     }
 
     @PostMapping("/comments/{commentId}/like")
-    public ResponseEntity<ForumComment> toggleLikeComment(
+    public ResponseEntity<LikeResponse> toggleLikeComment(
             @PathVariable Long commentId,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
         User user = userService.getUserById(userDetails.getId());
-        ForumComment comment = forumService.toggleLikeComment(commentId, user);
-        return ResponseEntity.ok(comment);
+        return ResponseEntity.ok(forumService.toggleLikeComment(commentId, user));
+    }
+
+    @PutMapping("/comments/{commentId}/like")
+    public ResponseEntity<LikeResponse> likeComment(
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        User user = userService.getUserById(userDetails.getId());
+        return ResponseEntity.ok(forumService.setCommentLike(commentId, user, true));
+    }
+
+    @DeleteMapping("/comments/{commentId}/like")
+    public ResponseEntity<LikeResponse> unlikeComment(
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        User user = userService.getUserById(userDetails.getId());
+        return ResponseEntity.ok(forumService.setCommentLike(commentId, user, false));
     }
 
     // Add a simple redirection for backward compatibility
@@ -10,7 +10,13 @@ import org.backend.model.ForumComment;
 import org.backend.model.PostReport;
 import org.backend.model.User;
 import org.backend.model.CommentReport;
+import org.backend.model.ModerationQueueItem;
 import org.backend.model.Report;
+import org.backend.payload.request.BulkReportStatusRequest;
+import org.backend.payload.response.BulkReportResult;
+import org.backend.payload.response.CursorPage;
+import org.backend.payload.response.ModerationPriorityItem;
+import org.backend.payload.response.ReportStatsResponse;
 import org.backend.repository.ForumPostRepository;
 import org.backend.repository.PostReportRepository;
 import org.backend.repository.CommentReportRepository;
@@ -20,6 +26,11 @@ import org.backend.repository.UserRepository;
 import org.backend.security.services.UserDetailsImpl;
 import org.backend.service.ForumService;
 import org.backend.service.UserService;
+import org.backend.service.moderation.BulkReportResolutionService;
+import org.backend.service.moderation.ModerationQueueService;
+import org.backend.service.moderation.ReportDuplicateFilter;
+import org.backend.service.moderation.ReportResolutionService;
+import org.backend.service.moderation.ReportStatsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -27,6 +38,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -52,11 +64,17 @@ public class ReportController {
     private final ForumCommentRepository forumCommentRepository;
     private final UserRepository userRepository;
     private final ReportRepository reportRepository;
+    private final ModerationQueueService moderationQueueService;
+    private final BulkReportResolutionService bulkReportResolutionService;
+    private final ReportResolutionService reportResolutionService;
+    private final ReportDuplicateFilter reportDuplicateFilter;
+    private final ReportStatsService reportStatsService;
 
     @PersistenceContext
     private EntityManager entityManager;
 
     @PostMapping("/unified/{contentType}/{contentId}")
+    @Transactional
     public ResponseEntity<Report> createUnifiedReport(
             @PathVariable String contentType,
             @PathVariable Long contentId,
@@ -75,28 +93,52 @@ public class ReportController {
             User reporter = userService.getUserById(userDetails.getId());
             logger.info("User found: {} (ID: {})", reporter.getUsername(), reporter.getId());
 
-            Report report = new Report();
-            report.setReason(reason);
-            report.setReporter(reporter);
-            report.setStatus(Report.ReportStatus.PENDING);
-
-            // Set the appropriate content based on type
+            // Validate the content based on type
+            ForumPost post = null;
+            ForumComment comment = null;
+            Report.ReportType type;
             if ("post".equalsIgnoreCase(contentType)) {
-                ForumPost post = forumPostRepository.findById(contentId)
+                post = forumPostRepository.findById(contentId)
                     .orElseThrow(() -> new EntityNotFoundException("Post not found with id: " + contentId));
-                report.setPost(post);
-                report.setType(Report.ReportType.POST);
+                type = Report.ReportType.POST;
             } else if ("comment".equalsIgnoreCase(contentType)) {
-                ForumComment comment = forumCommentRepository.findById(contentId)
+                comment = forumCommentRepository.findById(contentId)
                     .orElseThrow(() -> new EntityNotFoundException("Comment not found with id: " + contentId));
-                report.setComment(comment);
-                report.setType(Report.ReportType.COMMENT);
+                type = Report.ReportType.COMMENT;
             } else {
                 return ResponseEntity.badRequest().build();
             }
 
-            // Save the report
-            Report savedReport = reportRepository.save(report);
+            // A repeat report returns the one already on file without writing anything
+            Long reporterId = reporter.getId();
+            ReportDuplicateFilter.Kind kind = type == Report.ReportType.POST
+                    ? ReportDuplicateFilter.Kind.UNIFIED_POST : ReportDuplicateFilter.Kind.UNIFIED_COMMENT;
+            if (reportDuplicateFilter.mightHaveReported(kind, contentId, reporterId)) {
+                Optional<Report> existing = findUnifiedReport(type, contentId, reporterId);
+                if (existing.isPresent()) {
+                    logger.info("User {} already reported {} {}; returning report {}", reporterId, contentType, contentId,
+                            existing.get().getId());
+                    return ResponseEntity.ok(existing.get());
+                }
+            }
+
+            int inserted = reportRepository.insertIfAbsent(type.name(), post != null ? contentId : null,
+                    comment != null ? contentId : null, reporterId, reason, LocalDateTime.now());
+            reportDuplicateFilter.reported(kind, contentId, reporterId);
+            Report savedReport = findUnifiedReport(type, contentId, reporterId)
+                .orElseThrow(() -> new IllegalStateException("Report for " + contentType + " " + contentId + " was not saved"));
+            if (inserted == 0) {
+                // Lost a race with a concurrent submit of the same report
+                return ResponseEntity.ok(savedReport);
+            }
+
+            if (type == Report.ReportType.POST) {
+                moderationQueueService.postReported(post, reason, reporterId);
+                reportStatsService.reportFiled(type, post.getAuthor(), savedReport.getCreatedAt());
+            } else {
+                moderationQueueService.commentReported(comment, reason, reporterId);
+                reportStatsService.reportFiled(type, comment.getAuthor(), savedReport.getCreatedAt());
+            }
             logger.info("{} report created successfully with ID: {}", contentType, savedReport.getId());
 
             return ResponseEntity.status(HttpStatus.CREATED).body(savedReport);
@@ -106,6 +148,12 @@ public class ReportController {
         }
     }
 
+    private Optional<Report> findUnifiedReport(Report.ReportType type, Long contentId, Long reporterId) {
+        return type == Report.ReportType.POST
+                ? reportRepository.findByPostIdAndReporterId(contentId, reporterId)
+                : reportRepository.findByCommentIdAndReporterId(contentId, reporterId);
+    }
+
     @PostMapping("/post/{postId}")
     public ResponseEntity<PostReport> reportPost(
             @PathVariable Long postId,
@@ -462,22 +510,8 @@ public class ReportController {
             User admin = userService.getUserById(userDetails.getId());
             logger.info("Admin user found: {} (ID: {})", admin.getUsername(), admin.getId());
 
-            // Find the report
-            Report report = reportRepository.findById(reportId)
-                .orElseThrow(() -> new EntityNotFoundException("Report not found with ID: " + reportId));
-            logger.info("Report found with type: {}", report.getType());
-
-            // Update the report status
-            report.setStatus(status);
-
-            if (rejectionReason != null && !rejectionReason.isEmpty()) {
-                report.setRejectionReason(rejectionReason);
-            }
-
-            report.setResolvedAt(LocalDateTime.now());
-
-            // Save the updated report
-            Report updatedReport = reportRepository.save(report);
+            // The report, its queue entry and the rollups change in one transaction
+            Report report = reportResolutionService.updateStatus(reportId, status, rejectionReason);
             logger.info("Report status updated successfully to: {}", status);
 
             // If the report is approved, delete the reported content
@@ -513,13 +547,110 @@ public class ReportController {
                 }
             }
 
-            return ResponseEntity.ok(updatedReport);
+            return ResponseEntity.ok(report);
         } catch (Exception e) {
             logger.error("Error updating report status: {}", e.getMessage(), e);
             throw e;
         }
     }
 
+    // Applies one status to many unified reports; approving deletes the reported content in batches
+    @PutMapping("/unified/bulk-status")
+    @PreAuthorize("hasRole('OFFICIAL') or hasRole('ADMIN')")
+    public ResponseEntity<BulkReportResult> updateUnifiedReportStatuses(
+            @RequestBody BulkReportStatusRequest request,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        int count = request.getReportIds() != null ? request.getReportIds().size() : 0;
+        logger.info("Bulk updating {} unified reports to {} by user {}", count, request.getStatus(), userDetails.getId());
+        try {
+            return ResponseEntity.ok(bulkReportResolutionService.resolve(
+                    request.getReportIds(), request.getStatus(), request.getRejectionReason()));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected bulk report update: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Dashboard figures from the daily rollups: reports per day by type and outcome, mean time to
+    // resolution and the most reported authors
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('OFFICIAL') or hasRole('ADMIN')")
+    public ResponseEntity<ReportStatsResponse> getReportStats(
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "10") int topAuthors) {
+        return ResponseEntity.ok(reportStatsService.getStats(days, topAuthors));
+    }
+
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildReportStats() {
+        return ResponseEntity.ok(reportStatsService.rebuild());
+    }
+
+    // Moderation queue: one row per reported post/comment across all three report tables, keyset paged
+    @GetMapping("/queue")
+    @PreAuthorize("hasRole('OFFICIAL') or hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<ModerationQueueItem>> getModerationQueue(
+            @RequestParam(required = false) ModerationQueueItem.Status status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        try {
+            return ResponseEntity.ok(moderationQueueService.getQueue(status, cursor, size));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected moderation queue request with invalid cursor: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Pending items ordered by priority (distinct reporters, report count, content age, author warnings)
+    @GetMapping("/queue/priority")
+    @PreAuthorize("hasRole('OFFICIAL') or hasRole('ADMIN')")
+    public ResponseEntity<List<ModerationPriorityItem>> getPriorityQueue(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(moderationQueueService.getPriorityQueue(limit));
+    }
+
+    @PostMapping("/queue/claim-next")
+    @PreAuthorize("hasRole('OFFICIAL') or hasRole('ADMIN')")
+    public ResponseEntity<ModerationPriorityItem> claimNextQueueItem(
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return moderationQueueService.claimNext(userDetails.getId())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/queue/{contentType}/{contentId}/claim")
+    @PreAuthorize("hasRole('OFFICIAL') or hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> claimQueueItem(
+            @PathVariable Report.ReportType contentType,
+            @PathVariable Long contentId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        if (!moderationQueueService.claim(contentType, contentId, userDetails.getId())) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "Item is already claimed or no longer pending"));
+        }
+        return ResponseEntity.ok(Map.of("contentType", contentType, "contentId", contentId, "claimedBy", userDetails.getId()));
+    }
+
+    @DeleteMapping("/queue/{contentType}/{contentId}/claim")
+    @PreAuthorize("hasRole('OFFICIAL') or hasRole('ADMIN')")
+    public ResponseEntity<Void> releaseQueueItem(
+            @PathVariable Report.ReportType contentType,
+            @PathVariable Long contentId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return moderationQueueService.release(contentType, contentId, userDetails.getId())
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/queue/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildModerationQueue() {
+        return ResponseEntity.ok(moderationQueueService.rebuild());
+    }
+
     @GetMapping("/all")
     public ResponseEntity<Map<String, Object>> getAllReportsOfBothTypes(
             @RequestParam(defaultValue = "0") int page,
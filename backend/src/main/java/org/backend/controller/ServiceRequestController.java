@@ -7,16 +7,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.backend.payload.request.DocumentBatchRequest;
 import org.backend.payload.request.ServiceRequestRequest;
+import org.backend.payload.response.DocumentBatchJobResponse;
 import org.backend.payload.response.ServiceRequestResponse;
+import org.backend.payload.response.ServiceRequestTimelineEntry;
+import org.backend.payload.response.TrackingStatusResponse;
+import org.backend.security.services.UserDetailsImpl;
 import org.backend.service.ServiceRequestService;
+import org.backend.service.document.DocumentBatchService;
+import org.backend.service.document.DocumentStore;
+import org.backend.service.document.DocumentStoreMigration;
+import org.backend.service.servicerequest.ServiceRequestTracking;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.backend.model.User;
 import org.springframework.http.HttpStatus;
@@ -26,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import org.backend.model.ServiceRequest;
 import org.backend.repository.ServiceRequestRepository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -44,6 +55,18 @@ public class ServiceRequestController {
     @Autowired
     private ServiceRequestRepository serviceRequestRepository;
 
+    @Autowired
+    private DocumentBatchService documentBatchService;
+
+    @Autowired
+    private DocumentStore documentStore;
+
+    @Autowired
+    private DocumentStoreMigration documentStoreMigration;
+
+    @Autowired
+    private ServiceRequestTracking serviceRequestTracking;
+
     @Operation(summary = "Create a service request", description = "Create a new service request for a barangay service")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Service request created successfully", 
@@ -88,6 +111,66 @@ public class ServiceRequestController {
         return ResponseEntity.ok(serviceRequestService.getAllServiceRequests());
     }
 
+    @Operation(summary = "Search service requests", description = "Page through service requests newest first, optionally filtered by status, service type, document status and creation date (for officials)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "One page of matching service requests"),
+        @ApiResponse(responseCode = "401", description = "Not authorized to view all service requests")
+    })
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('OFFICIAL')")
+    public ResponseEntity<Page<ServiceRequestResponse>> searchServiceRequests(
+            @Parameter(description = "Request status, e.g. PENDING") @RequestParam(required = false) String status,
+            @Parameter(description = "Service type") @RequestParam(required = false) String serviceType,
+            @Parameter(description = "Document status, e.g. GENERATED") @RequestParam(required = false) String documentStatus,
+            @Parameter(description = "Created on or after this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Created on or before this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(serviceRequestService.searchServiceRequests(status, serviceType, documentStatus,
+                from, to, page, size));
+    }
+
+    @Operation(summary = "Get service request counts", description = "Current number of service requests by status, document status and service type, served from in-memory counters (for officials)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Service request counts"),
+        @ApiResponse(responseCode = "401", description = "Not authorized to view service request counts")
+    })
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('OFFICIAL')")
+    public ResponseEntity<Map<String, Object>> getServiceRequestStats() {
+        return ResponseEntity.ok(serviceRequestService.getServiceRequestStats());
+    }
+
+    @Operation(summary = "Get service request turnaround", description = "Percentiles of the time from creation to document delivery per service type, from the transition log (for officials)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Turnaround percentiles in seconds"),
+        @ApiResponse(responseCode = "401", description = "Not authorized to view turnaround statistics")
+    })
+    @GetMapping("/turnaround")
+    @PreAuthorize("hasRole('OFFICIAL')")
+    public ResponseEntity<Map<String, Object>> getTurnaroundStats() {
+        return ResponseEntity.ok(serviceRequestService.getTurnaroundStats());
+    }
+
+    @Operation(summary = "Track a service request", description = "Public status of a service request by its tracking number")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status of the service request",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TrackingStatusResponse.class))),
+        @ApiResponse(responseCode = "404", description = "No service request has this tracking number")
+    })
+    @GetMapping("/track/{trackingNumber}")
+    public ResponseEntity<TrackingStatusResponse> trackServiceRequest(
+            @Parameter(description = "Tracking number, e.g. BR-20261017-00421", required = true)
+            @PathVariable String trackingNumber) {
+        // Shared caches may hold the answer as long as the server does; it names no one
+        CacheControl cacheControl = CacheControl.maxAge(serviceRequestTracking.getTtl()).cachePublic();
+        return serviceRequestTracking.track(trackingNumber)
+                .map(status -> ResponseEntity.ok().cacheControl(cacheControl).body(status))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).cacheControl(cacheControl).build());
+    }
+
     @Operation(summary = "Get user's service requests", description = "Retrieve all service requests for a specific user")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "List of user's service requests", 
@@ -117,10 +200,7 @@ public class ServiceRequestController {
             @PathVariable Long id) {
         try {
             Resource resource = serviceRequestService.getGeneratedDocument(id);
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_PDF)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
-                    .body(resource);
+            return FileResponses.attachment(resource, resource.getFilename(), FileResponses.REVALIDATE);
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
@@ -259,6 +339,54 @@ public class ServiceRequestController {
         }
     }
 
+    @Operation(summary = "Generate documents in bulk", description = "Start a job that generates documents for many service requests in parallel; progress is published on /topic/document-batches/{jobId}")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Batch job started",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = DocumentBatchJobResponse.class))),
+        @ApiResponse(responseCode = "400", description = "No requests or too many requests given"),
+        @ApiResponse(responseCode = "401", description = "Not authorized to generate documents")
+    })
+    @PostMapping("/document-batches")
+    @PreAuthorize("hasRole('OFFICIAL')")
+    public ResponseEntity<DocumentBatchJobResponse> startDocumentBatch(
+            @RequestBody DocumentBatchRequest request,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(documentBatchService.submit(request.getRequestIds(), userDetails.getId()));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected document batch: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Get a document batch job", description = "Progress of a batch document generation job, optionally with the outcome of each request")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch job progress"),
+        @ApiResponse(responseCode = "401", description = "Not authorized to view batch jobs"),
+        @ApiResponse(responseCode = "404", description = "Batch job not found")
+    })
+    @GetMapping("/document-batches/{jobId}")
+    @PreAuthorize("hasRole('OFFICIAL')")
+    public ResponseEntity<DocumentBatchJobResponse> getDocumentBatch(
+            @Parameter(description = "Batch job ID", required = true) @PathVariable Long jobId,
+            @RequestParam(defaultValue = "false") boolean items) {
+        return documentBatchService.findJob(jobId, items)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Migrate attachments into the document store", description = "Move attachments still recorded as file paths into the content-addressed document store (for admins)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Counts of migrated, missing and failed attachments"),
+        @ApiResponse(responseCode = "401", description = "Not authorized to run the migration")
+    })
+    @PostMapping("/documents/migrate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> migrateDocuments() {
+        return ResponseEntity.ok(documentStoreMigration.migrate());
+    }
+
     @Operation(summary = "View the attached document for a service request", description = "View the document attached to a service request")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Document retrieved successfully"),
@@ -278,31 +406,9 @@ public class ServiceRequestController {
             
             Resource resource = serviceRequestService.getAttachedDocument(id);
             String filename = resource.getFilename();
-            MediaType mediaType = MediaType.APPLICATION_OCTET_STREAM;
-            
-            // Determine content type based on file extension
-            if (filename != null) {
-                String lowercaseFilename = filename.toLowerCase();
-                if (lowercaseFilename.endsWith(".pdf")) {
-                    mediaType = MediaType.APPLICATION_PDF;
-                } else if (lowercaseFilename.endsWith(".png")) {
-                    mediaType = MediaType.IMAGE_PNG;
-                } else if (lowercaseFilename.endsWith(".jpg") || lowercaseFilename.endsWith(".jpeg")) {
-                    mediaType = MediaType.IMAGE_JPEG;
-                } else if (lowercaseFilename.endsWith(".docx")) {
-                    mediaType = MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.wordprocessingml.document");
-                } else if (lowercaseFilename.endsWith(".xlsx")) {
-                    mediaType = MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-                }
-            }
-            
-            logger.info("Successfully retrieved document for ID: {}, filename: {}, mediaType: {}", 
-                    id, filename, mediaType);
-            
-            return ResponseEntity.ok()
-                    .contentType(mediaType)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + (filename != null ? filename : "document") + "\"")
-                    .body(resource);
+            logger.info("Successfully retrieved document for ID: {}, filename: {}", id, filename);
+
+            return FileResponses.inline(resource, filename, FileResponses.REVALIDATE);
         } catch (Exception e) {
             logger.error("Error retrieving attached document for ID {}: {}", id, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -351,6 +457,36 @@ public class ServiceRequestController {
         }
     }
 
+    @Operation(summary = "Get service request timeline", description = "Every status change of a service request, oldest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Timeline of the service request"),
+        @ApiResponse(responseCode = "401", description = "Not authorized to view this service request"),
+        @ApiResponse(responseCode = "403", description = "Service request belongs to another resident"),
+        @ApiResponse(responseCode = "404", description = "Service request not found")
+    })
+    @GetMapping("/{id}/timeline")
+    @PreAuthorize("hasAnyRole('OFFICIAL', 'USER')")
+    public ResponseEntity<List<ServiceRequestTimelineEntry>> getServiceRequestTimeline(
+            @Parameter(description = "Service request ID", required = true)
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        ServiceRequest request = serviceRequestRepository.findById(id).orElse(null);
+        if (request == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // Residents only see the history of their own requests
+        boolean official = userDetails.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_OFFICIAL") || a.getAuthority().equals("ROLE_ADMIN"));
+        if (!official && !request.getUser().getId().equals(userDetails.getId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return ResponseEntity.ok(serviceRequestService.getTimeline(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @Operation(summary = "Get document path information", description = "Get diagnostic information about document paths for a service request")
     @GetMapping("/{id}/document-info")
     @PreAuthorize("hasAnyRole('OFFICIAL', 'USER')")
@@ -367,31 +503,14 @@ public class ServiceRequestController {
             
             // Check if the attached document file exists
             if (request.getAttachedDocumentPath() != null) {
-                java.nio.file.Path attachedPath = java.nio.file.Paths.get(request.getAttachedDocumentPath());
+                java.nio.file.Path attachedPath = documentStore.locate(request.getAttachedDocumentPath());
                 info.put("attachedDocumentExists", java.nio.file.Files.exists(attachedPath));
-                info.put("attachedDocumentAbsolutePath", attachedPath.toAbsolutePath().toString());
-                
-                // Extract the filename to create alternative paths
-                String filename = attachedPath.getFileName().toString();
-                info.put("filename", filename);
-                
-                // Check alternative paths
-                java.nio.file.Path altPath1 = java.nio.file.Paths.get(System.getProperty("user.dir"), "documents", "attached", filename);
-                info.put("alternativePath1", altPath1.toString());
-                info.put("alternativePath1Exists", java.nio.file.Files.exists(altPath1));
-                
-                java.nio.file.Path altPath2 = java.nio.file.Paths.get("documents", "attached", filename);
-                info.put("alternativePath2", altPath2.toString());
-                info.put("alternativePath2Exists", java.nio.file.Files.exists(altPath2));
-            }
-            
-            // List all files in the attached documents directory
-            java.nio.file.Path attachedDir = java.nio.file.Paths.get(System.getProperty("user.dir"), "documents", "attached");
-            if (java.nio.file.Files.exists(attachedDir)) {
-                java.util.List<String> files = java.nio.file.Files.list(attachedDir)
-                        .map(p -> p.getFileName().toString())
-                        .collect(java.util.stream.Collectors.toList());
-                info.put("availableFiles", files);
+                info.put("filename", attachedPath.getFileName().toString());
+                documentStore.describe(request.getAttachedDocumentPath()).ifPresent(stored -> {
+                    info.put("originalFilename", stored.getOriginalFilename());
+                    info.put("contentType", stored.getContentType());
+                    info.put("sizeBytes", stored.getSizeBytes());
+                });
             }
             
             return ResponseEntity.ok(info);
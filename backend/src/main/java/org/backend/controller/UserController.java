@@ -9,6 +9,7 @@ import org.backend.payload.request.ChangePasswordRequest;
 import org.backend.payload.response.MessageResponse;
 import org.backend.security.services.UserDetailsImpl;
 import org.backend.service.UserService;
+import org.backend.service.moderation.ModerationQueueService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +32,9 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ModerationQueueService moderationQueueService;
+
     @Operation(summary = "Get all users", description = "Retrieve a list of all users (Officials only)")
     @GetMapping
     @PreAuthorize("hasRole('ROLE_OFFICIAL')")
@@ -73,6 +77,7 @@ public class UserController {
             }
             
             userService.updateUser(user);
+            moderationQueueService.authorWarned(userId, user.getWarnings());
             
             return ResponseEntity.ok(new MessageResponse("User warned successfully"));
         } catch (Exception e) {
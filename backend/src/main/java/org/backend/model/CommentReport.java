@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = {"comment", "reporter"})
-@Table(name = "comment_reports")
+@Table(name = "comment_reports",
+    uniqueConstraints = @UniqueConstraint(name = "uk_comment_reports_comment_reporter", columnNames = {"comment_id", "user_id"}))
 public class CommentReport {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,46 @@
+package org.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One service request within a DocumentBatchJob.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "document_batch_items",
+    uniqueConstraints = @UniqueConstraint(name = "uk_document_batch_items_job_request", columnNames = {"job_id", "service_request_id"}),
+    indexes = @Index(name = "idx_document_batch_items_job_status", columnList = "job_id, status"))
+public class DocumentBatchItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "service_request_id", nullable = false)
+    private Long serviceRequestId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(length = 500)
+    private String error;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        PENDING,
+        SUCCEEDED,
+        FAILED
+    }
+}
@@ -0,0 +1,53 @@
+package org.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A batch of certificates an official asked to generate in one go. Progress counters are bumped
+ * as each item commits, so the row always reflects what has actually been saved.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "document_batch_jobs",
+    indexes = @Index(name = "idx_document_batch_jobs_status", columnList = "status"))
+public class DocumentBatchJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "requested_by_id", nullable = false)
+    private Long requestedById;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Status status;
+
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    @Column(name = "succeeded_count", nullable = false)
+    private int succeededCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        // Finished, but at least one item failed
+        COMPLETED_WITH_ERRORS
+    }
+}
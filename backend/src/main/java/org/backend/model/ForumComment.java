@@ -17,7 +17,9 @@ import java.util.Set;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "forum_comments")
+@Table(name = "forum_comments", indexes = {
+    @Index(name = "idx_forum_comments_post_created_at_id", columnList = "post_id, created_at, id")
+})
 public class ForumComment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -45,6 +47,11 @@ public class ForumComment {
     @JsonIgnoreProperties({"password", "roles", "email"})
     private Set<User> likes = new HashSet<>();
 
+    // Denormalized size of the likes join table, kept in step by atomic UPDATEs on every like/unlike.
+    // Not updatable, so saving an edited entity never writes back a count read before a concurrent like
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private int likeCount = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
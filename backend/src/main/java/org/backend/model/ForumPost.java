@@ -1,5 +1,6 @@
 package org.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -18,7 +19,9 @@ import java.util.Set;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "forum_posts")
+@Table(name = "forum_posts", indexes = {
+    @Index(name = "idx_forum_posts_created_at_id", columnList = "created_at, id")
+})
 public class ForumPost {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +36,20 @@ public class ForumPost {
     @Column(name = "image_url")
     private String imageUrl;
 
+    // Small variant of imageUrl for feed cards; produced together with it by the image pipeline
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_status", length = 20)
+    private ImageStatus imageStatus = ImageStatus.NONE;
+
+    // Identifies the upload currently being processed, so an older job finishing late cannot
+    // replace or fail the image of a newer one
+    @JsonIgnore
+    @Column(name = "image_job_id", length = 36)
+    private String imageJobId;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "user_id", nullable = false)
     @JsonIgnoreProperties({"password", "roles", "email"})
@@ -51,6 +68,11 @@ public class ForumPost {
     @JsonIgnoreProperties({"password", "roles", "email"})
     private Set<User> likes = new HashSet<>();
 
+    // Denormalized size of the likes join table, kept in step by atomic UPDATEs on every like/unlike.
+    // Not updatable, so saving an edited entity never writes back a count read before a concurrent like
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private int likeCount = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -63,6 +85,13 @@ public class ForumPost {
     @JsonIgnoreProperties("post")
     private List<Report> reports;
 
+    public enum ImageStatus {
+        NONE,
+        PROCESSING,
+        READY,
+        FAILED
+    }
+
     public void addComment(ForumComment comment) {
         comments.add(comment);
         comment.setPost(this);
@@ -0,0 +1,91 @@
+package org.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Moderation read model: one row per reported post or comment, aggregating every report filed
+ * against it across reports, post_reports and comment_reports.
+ *
+ * Rows are maintained by ModerationQueueService on each report write and resolution, so the
+ * admin queue is a single keyset scan with no joins.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "moderation_queue",
+    uniqueConstraints = @UniqueConstraint(name = "uk_moderation_queue_content", columnNames = {"content_type", "content_id"}),
+    indexes = {
+        @Index(name = "idx_moderation_queue_status_last_reported", columnList = "status, last_reported_at, id"),
+        @Index(name = "idx_moderation_queue_last_reported", columnList = "last_reported_at, id"),
+        @Index(name = "idx_moderation_queue_post_id", columnList = "post_id")
+    })
+public class ModerationQueueItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", nullable = false, length = 20)
+    private Report.ReportType contentType;
+
+    @Column(name = "content_id", nullable = false)
+    private Long contentId;
+
+    // The post itself for POST rows, the parent post for COMMENT rows
+    @Column(name = "post_id")
+    private Long postId;
+
+    // Post title or the start of the comment, captured when the content was last reported
+    @Column(length = 200)
+    private String preview;
+
+    @Column(name = "author_username")
+    private String authorUsername;
+
+    @Column(name = "report_count", nullable = false)
+    private int reportCount;
+
+    @Column(name = "pending_count", nullable = false)
+    private int pendingCount;
+
+    @Column(name = "latest_reason", columnDefinition = "TEXT")
+    private String latestReason;
+
+    @Column(name = "first_reported_at", nullable = false)
+    private LocalDateTime firstReportedAt;
+
+    @Column(name = "last_reported_at", nullable = false)
+    private LocalDateTime lastReportedAt;
+
+    @Column(name = "last_resolved_at")
+    private LocalDateTime lastResolvedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    // Official currently working on this item; a claim older than the configured TTL can be taken over
+    @Column(name = "claimed_by")
+    private Long claimedBy;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        // At least one report is still waiting for a decision
+        PENDING,
+        // Every report has been decided and the content is still up
+        RESOLVED,
+        // The content has been deleted
+        REMOVED
+    }
+}
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = {"post", "reporter"})
-@Table(name = "post_reports")
+@Table(name = "post_reports",
+    uniqueConstraints = @UniqueConstraint(name = "uk_post_reports_post_reporter", columnNames = {"post_id", "user_id"}))
 public class PostReport {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -15,7 +15,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = {"post", "comment", "reporter"})
-@Table(name = "reports")
+@Table(name = "reports", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_reports_post_reporter", columnNames = {"post_id", "user_id"}),
+    @UniqueConstraint(name = "uk_reports_comment_reporter", columnNames = {"comment_id", "user_id"})
+})
 public class Report {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
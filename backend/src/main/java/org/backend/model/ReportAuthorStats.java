@@ -0,0 +1,33 @@
+package org.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Running count of reports filed against each author's posts and comments.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "report_author_stats", indexes = {
+    @Index(name = "idx_report_author_stats_count", columnList = "report_count, author_id")
+})
+public class ReportAuthorStats {
+    @Id
+    @Column(name = "author_id")
+    private Long authorId;
+
+    @Column(name = "author_username")
+    private String authorUsername;
+
+    @Column(name = "report_count", nullable = false)
+    private long reportCount;
+
+    @Column(name = "last_reported_at")
+    private LocalDateTime lastReportedAt;
+}
@@ -0,0 +1,51 @@
+package org.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Daily rollup of report activity for one content type, across all three report tables.
+ *
+ * Reports are counted on the day they were filed; approvals, rejections and the time they took
+ * on the day they were resolved. ReportStatsService keeps the rows current as reports are written,
+ * so the dashboard reads a handful of rows instead of grouping the report tables.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "report_daily_stats",
+    uniqueConstraints = @UniqueConstraint(name = "uk_report_daily_stats_day_type", columnNames = {"day", "content_type"}))
+public class ReportDailyStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", nullable = false, length = 20)
+    private Report.ReportType contentType;
+
+    @Column(name = "reported_count", nullable = false)
+    private long reportedCount;
+
+    @Column(name = "approved_count", nullable = false)
+    private long approvedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private long rejectedCount;
+
+    // Sum of resolved_at - created_at over the reports resolved that day
+    @Column(name = "resolution_seconds", nullable = false)
+    private long resolutionSeconds;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
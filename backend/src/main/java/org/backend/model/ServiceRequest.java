@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "service_requests")
+@Table(name = "service_requests", indexes = {
+    @Index(name = "idx_service_requests_created_at", columnList = "created_at, id"),
+    @Index(name = "idx_service_requests_status_created_at", columnList = "status, created_at"),
+    @Index(name = "idx_service_requests_user_id", columnList = "user_id")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_service_requests_tracking_number", columnNames = "tracking_number"))
 public class ServiceRequest {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -58,8 +62,8 @@ public class ServiceRequest {
     @Column
     private String documentStatus; // NOT_GENERATED, GENERATED, DELIVERED
 
-    @Column
-    private String trackingNumber; // For residents to track their request
+    @Column(name = "tracking_number")
+    private String trackingNumber; // For residents to track their request, assigned by TrackingNumberGenerator
 
     @PrePersist
     protected void onCreate() {
@@ -67,7 +71,6 @@ public class ServiceRequest {
         updatedAt = LocalDateTime.now();
         status = "PENDING";
         documentStatus = "NOT_GENERATED"; // Initial status: NOT_GENERATED, ATTACHED, GENERATED, DELIVERED
-        trackingNumber = generateTrackingNumber();
     }
 
     @PreUpdate
@@ -75,17 +78,6 @@ public class ServiceRequest {
         updatedAt = LocalDateTime.now();
     }
 
-    // Method to generate a unique tracking number
-    private String generateTrackingNumber() {
-        // Format: BR-YYYYMMDD-XXXX (where XXXX is a random number)
-        String dateFormat = java.time.format.DateTimeFormatter
-                .ofPattern("yyyyMMdd")
-                .format(LocalDateTime.now());
-
-        int randomNum = (int) (Math.random() * 10000);
-        return String.format("BR-%s-%04d", dateFormat, randomNum);
-    }
-
     // Method to mark document as generated
     public void markDocumentAsGenerated(String filePath, User official) {
         this.generatedDocumentPath = filePath;
@@ -0,0 +1,52 @@
+package org.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One change of a service request's status or document status. Rows are only ever inserted; a
+ * request's rows in changedAt order are its history. The from fields are null for the row written
+ * when the request is created.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "service_request_transitions", indexes = {
+    @Index(name = "idx_service_request_transitions_request", columnList = "service_request_id, changed_at, id"),
+    @Index(name = "idx_service_request_transitions_to_document_status", columnList = "to_document_status")
+})
+public class ServiceRequestTransition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "service_request_id", nullable = false)
+    private Long serviceRequestId;
+
+    @Column(name = "service_type")
+    private String serviceType;
+
+    @Column(name = "from_status")
+    private String fromStatus;
+
+    @Column(name = "to_status")
+    private String toStatus;
+
+    @Column(name = "from_document_status")
+    private String fromDocumentStatus;
+
+    @Column(name = "to_document_status")
+    private String toDocumentStatus;
+
+    // Null when the change was not made by a signed-in user
+    @Column(name = "changed_by_id")
+    private Long changedById;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
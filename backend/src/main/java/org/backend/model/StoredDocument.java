@@ -0,0 +1,41 @@
+package org.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metadata for one file in the content-addressed document store, keyed by the same storage key
+ * that service requests hold, so describing a document is a primary-key lookup.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "stored_documents",
+    indexes = @Index(name = "idx_stored_documents_sha256", columnList = "sha256"))
+public class StoredDocument {
+    // SHA-256 of the content in hex plus the file extension, e.g. "9f86d0...0f00a08.pdf"
+    @Id
+    @Column(name = "storage_key", length = 80)
+    private String storageKey;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    // Name of the first upload with this content
+    @Column(name = "original_filename")
+    private String originalFilename;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
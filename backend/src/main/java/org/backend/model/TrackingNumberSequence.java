@@ -0,0 +1,25 @@
+package org.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Next unallocated tracking number sequence for one day. Application instances reserve blocks of
+ * numbers from it and hand them out from memory.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tracking_number_sequences")
+public class TrackingNumberSequence {
+    @Id
+    private LocalDate day;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+}
@@ -0,0 +1,17 @@
+package org.backend.payload.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.backend.model.Report;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReportStatusRequest {
+    private List<Long> reportIds;
+    private Report.ReportStatus status;
+    private String rejectionReason;
+}
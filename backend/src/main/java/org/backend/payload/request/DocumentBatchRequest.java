@@ -0,0 +1,14 @@
+package org.backend.payload.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentBatchRequest {
+    private List<Long> requestIds;
+}
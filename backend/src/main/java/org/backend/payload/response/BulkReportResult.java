@@ -0,0 +1,56 @@
+package org.backend.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.backend.model.Report;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk report status change: totals plus one entry per requested report, in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReportResult {
+    private Report.ReportStatus status;
+    private int requested;
+    private int updated;
+    private int contentRemoved;
+    private int notFound;
+    private int failed;
+    private List<Item> items;
+
+    public enum Outcome {
+        // The report now has the requested status
+        UPDATED,
+        // The report was approved and the reported post or comment was deleted, taking its reports with it
+        CONTENT_REMOVED,
+        NOT_FOUND,
+        // The batch this report was in was rolled back; nothing about it changed
+        FAILED
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long reportId;
+        private Outcome outcome;
+        private String message;
+    }
+
+    public static BulkReportResult of(Report.ReportStatus status, List<Item> items) {
+        BulkReportResult result = new BulkReportResult(status, items.size(), 0, 0, 0, 0, items);
+        for (Item item : items) {
+            switch (item.getOutcome()) {
+                case UPDATED -> result.updated++;
+                case CONTENT_REMOVED -> result.contentRemoved++;
+                case NOT_FOUND -> result.notFound++;
+                case FAILED -> result.failed++;
+            }
+        }
+        return result;
+    }
+}
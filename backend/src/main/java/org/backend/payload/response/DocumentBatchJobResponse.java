@@ -0,0 +1,42 @@
+package org.backend.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.backend.model.DocumentBatchItem;
+import org.backend.model.DocumentBatchJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress of a batch document generation job. Items are only included when asked for.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentBatchJobResponse {
+    private Long id;
+    private DocumentBatchJob.Status status;
+    private int totalCount;
+    private int succeededCount;
+    private int failedCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private List<Item> items;
+
+    public static DocumentBatchJobResponse of(DocumentBatchJob job, List<Item> items) {
+        return new DocumentBatchJobResponse(job.getId(), job.getStatus(), job.getTotalCount(), job.getSucceededCount(),
+                job.getFailedCount(), job.getCreatedAt(), job.getFinishedAt(), items);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long serviceRequestId;
+        private DocumentBatchItem.Status status;
+        private String error;
+        private LocalDateTime finishedAt;
+    }
+}
@@ -0,0 +1,47 @@
+package org.backend.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Thread representation of a forum comment: author display fields, like count and whether
+ * the viewer liked it, without the post, likers or author roles.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForumCommentResponse {
+    private Long id;
+    private Long postId;
+    private String content;
+    private Long authorId;
+    private String authorUsername;
+    private String authorFirstName;
+    private String authorLastName;
+    private int likeCount;
+    private boolean likedByMe;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Constructor used by the JPQL projections in ForumCommentRepository. likedByMe is
+     * viewer-specific and filled in afterwards.
+     */
+    public ForumCommentResponse(Long id, Long postId, String content,
+                                Long authorId, String authorUsername, String authorFirstName, String authorLastName,
+                                Integer likeCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.postId = postId;
+        this.content = content;
+        this.authorId = authorId;
+        this.authorUsername = authorUsername;
+        this.authorFirstName = authorFirstName;
+        this.authorLastName = authorLastName;
+        this.likeCount = likeCount != null ? likeCount : 0;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,36 @@
+package org.backend.payload.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Incremental forum update pushed over STOMP so clients can patch their view instead of
+ * re-fetching the feed. Only the fields relevant to the event type are set; the rest are omitted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ForumDeltaEvent {
+    private Type type;
+    private Long postId;
+    private Long commentId;
+    // Latest like count of the post (STATS only, when likes changed during the window)
+    private Integer likeCount;
+    // Net change in comment count during the window (STATS only)
+    private Integer commentDelta;
+    private ForumPostResponse post;
+    private ForumCommentResponse comment;
+    private long timestamp;
+
+    public enum Type {
+        POST_CREATED,
+        POST_DELETED,
+        // Coalesced like/comment counters, at most one per post per window
+        STATS,
+        COMMENT_ADDED,
+        COMMENT_DELETED
+    }
+}
@@ -0,0 +1,56 @@
+package org.backend.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.backend.model.ForumPost;
+
+import java.time.LocalDateTime;
+
+/**
+ * Feed representation of a forum post. Carries the like count and whether the viewer
+ * liked the post instead of the full list of likers.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForumPostResponse {
+    private Long id;
+    private String title;
+    private String content;
+    private String imageUrl;
+    private String thumbnailUrl;
+    private ForumPost.ImageStatus imageStatus;
+    private Long authorId;
+    private String authorUsername;
+    private String authorFirstName;
+    private String authorLastName;
+    private int likeCount;
+    private long commentCount;
+    private boolean likedByMe;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Constructor used by the JPQL projections in ForumPostRepository. likedByMe is viewer-specific
+     * and filled in afterwards.
+     */
+    public ForumPostResponse(Long id, String title, String content, String imageUrl,
+                             String thumbnailUrl, ForumPost.ImageStatus imageStatus, Long authorId, String authorUsername, String authorFirstName, String authorLastName,
+                             Integer likeCount, Long commentCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.imageStatus = imageStatus;
+        this.authorId = authorId;
+        this.authorUsername = authorUsername;
+        this.authorFirstName = authorFirstName;
+        this.authorLastName = authorLastName;
+        this.likeCount = likeCount != null ? likeCount : 0;
+        this.commentCount = commentCount != null ? commentCount : 0L;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,25 @@
+package org.backend.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One ranked hit from the forum search. Comment hits carry their post's id and title so the
+ * client can link straight to the thread.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForumSearchResult {
+    private String type;
+    private Long id;
+    private Long postId;
+    private String postTitle;
+    private String snippet;
+    private String authorUsername;
+    private LocalDateTime createdAt;
+    private double score;
+}
@@ -0,0 +1,14 @@
+package org.backend.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeResponse {
+    private Long id;
+    private int likeCount;
+    private boolean likedByMe;
+}
@@ -0,0 +1,28 @@
+package org.backend.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.backend.model.Report;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the prioritized moderation work queue, with the inputs its score was computed from.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModerationPriorityItem {
+    private Report.ReportType contentType;
+    private Long contentId;
+    private Long postId;
+    private Long authorId;
+    private int pendingReports;
+    private int distinctReporters;
+    private int authorWarnings;
+    private LocalDateTime contentCreatedAt;
+    private double score;
+    private Long claimedBy;
+    private LocalDateTime claimedAt;
+}
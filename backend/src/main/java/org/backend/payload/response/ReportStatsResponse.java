@@ -0,0 +1,51 @@
+package org.backend.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.backend.model.Report;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moderation dashboard figures for the last {@code days} days. Mean resolution times are null
+ * when nothing was resolved in the period.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportStatsResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private long reported;
+    private long approved;
+    private long rejected;
+    private Long meanResolutionSeconds;
+    // Only days with activity are listed
+    private List<Day> days;
+    private List<Author> topAuthors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate day;
+        private Report.ReportType contentType;
+        private long reported;
+        private long approved;
+        private long rejected;
+        private Long meanResolutionSeconds;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Author {
+        private Long authorId;
+        private String username;
+        private long reportCount;
+        private LocalDateTime lastReportedAt;
+    }
+}
@@ -18,6 +18,7 @@ public class ServiceRequestResponse {
     private String documentStatus;
     private String generatedDocumentPath;
     private String attachedDocumentPath;
+    private String trackingNumber;
 
     public ServiceRequestResponse(Long id, String serviceType, String status, String details,
                                 String purpose, String contactNumber, String address,
@@ -182,4 +183,12 @@ public class ServiceRequestResponse {
     public void setAttachedDocumentPath(String attachedDocumentPath) {
         this.attachedDocumentPath = attachedDocumentPath;
     }
+
+    public String getTrackingNumber() {
+        return trackingNumber;
+    }
+
+    public void setTrackingNumber(String trackingNumber) {
+        this.trackingNumber = trackingNumber;
+    }
 }
@@ -0,0 +1,30 @@
+package org.backend.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.backend.model.ServiceRequestTransition;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a service request's timeline. The from fields are null for the entry that records
+ * its creation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceRequestTimelineEntry {
+    private String fromStatus;
+    private String toStatus;
+    private String fromDocumentStatus;
+    private String toDocumentStatus;
+    private Long changedById;
+    private LocalDateTime changedAt;
+
+    public static ServiceRequestTimelineEntry of(ServiceRequestTransition transition) {
+        return new ServiceRequestTimelineEntry(transition.getFromStatus(), transition.getToStatus(),
+                transition.getFromDocumentStatus(), transition.getToDocumentStatus(),
+                transition.getChangedById(), transition.getChangedAt());
+    }
+}
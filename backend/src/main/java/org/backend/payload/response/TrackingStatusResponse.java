@@ -0,0 +1,23 @@
+package org.backend.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * What anyone holding a tracking number may see about the request. It is served without
+ * authentication, so it carries nothing about the resident.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrackingStatusResponse {
+    private String trackingNumber;
+    private String serviceType;
+    private String status;
+    private String documentStatus;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -7,9 +7,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CommentReportRepository extends JpaRepository<CommentReport, Long> {
     boolean existsByCommentAndReporter(ForumComment comment, User reporter);
@@ -21,4 +28,35 @@ public interface CommentReportRepository extends JpaRepository<CommentReport, Lo
     @Modifying
     @Transactional
     void deleteByComment(ForumComment comment);
+
+    // Set-based cleanup used by the forum delete paths: one statement however many rows match
+    @Modifying
+    @Query("DELETE FROM CommentReport r WHERE r.comment.id IN (SELECT c.id FROM ForumComment c WHERE c.post.id IN :postIds)")
+    int bulkDeleteByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM CommentReport r WHERE r.comment.id IN :commentIds")
+    int bulkDeleteByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // Idempotent report creation, see PostReportRepository.insertIfAbsent
+    @Modifying
+    @Query(value = "INSERT INTO comment_reports (comment_id, user_id, reason, status, created_at) " +
+                   "VALUES (:commentId, :reporterId, :reason, 'PENDING', :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("commentId") Long commentId, @Param("reporterId") Long reporterId,
+                       @Param("reason") String reason, @Param("now") LocalDateTime now);
+
+    @Query("SELECT r FROM CommentReport r WHERE r.comment.id = :commentId AND r.reporter.id = :reporterId")
+    Optional<CommentReport> findByCommentIdAndReporterId(@Param("commentId") Long commentId, @Param("reporterId") Long reporterId);
+
+    @Query("SELECT r.comment.id, r.reporter.id FROM CommentReport r")
+    List<Object[]> findReporterPairs();
+
+    @Modifying
+    @Query(value = "DELETE FROM comment_reports r USING comment_reports o " +
+                   "WHERE r.comment_id = o.comment_id AND r.user_id = o.user_id AND r.id > o.id", nativeQuery = true)
+    int deleteDuplicates();
+
+    @Modifying
+    @Query(value = "CREATE UNIQUE INDEX IF NOT EXISTS uk_comment_reports_comment_reporter ON comment_reports (comment_id, user_id)", nativeQuery = true)
+    void ensureUniqueIndex();
 }
@@ -0,0 +1,26 @@
+package org.backend.repository;
+
+import org.backend.model.DocumentBatchItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DocumentBatchItemRepository extends JpaRepository<DocumentBatchItem, Long> {
+
+    List<DocumentBatchItem> findByJobIdOrderByIdAsc(Long jobId);
+
+    List<DocumentBatchItem> findByJobIdAndStatusOrderByIdAsc(Long jobId, DocumentBatchItem.Status status);
+
+    // Returns 0 if the item was already finished, so a retried item is never counted twice
+    @Modifying
+    @Query("UPDATE DocumentBatchItem i SET i.status = :status, i.error = :error, i.finishedAt = :now " +
+           "WHERE i.id = :id AND i.status = org.backend.model.DocumentBatchItem.Status.PENDING")
+    int finish(@Param("id") Long id, @Param("status") DocumentBatchItem.Status status,
+               @Param("error") String error, @Param("now") LocalDateTime now);
+}
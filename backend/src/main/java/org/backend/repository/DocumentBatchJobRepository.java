@@ -0,0 +1,32 @@
+package org.backend.repository;
+
+import org.backend.model.DocumentBatchJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DocumentBatchJobRepository extends JpaRepository<DocumentBatchJob, Long> {
+
+    List<DocumentBatchJob> findByStatus(DocumentBatchJob.Status status);
+
+    // Row-locks the job until the item's transaction commits, so concurrent items see each other's counts
+    @Modifying
+    @Query("UPDATE DocumentBatchJob j SET j.succeededCount = j.succeededCount + :succeeded, " +
+           "j.failedCount = j.failedCount + :failed WHERE j.id = :id")
+    int addCounts(@Param("id") Long id, @Param("succeeded") int succeeded, @Param("failed") int failed);
+
+    // Only the call that moves the job out of RUNNING gets 1
+    @Modifying
+    @Query("UPDATE DocumentBatchJob j SET j.status = CASE WHEN j.failedCount > 0 " +
+           "THEN org.backend.model.DocumentBatchJob.Status.COMPLETED_WITH_ERRORS " +
+           "ELSE org.backend.model.DocumentBatchJob.Status.COMPLETED END, j.finishedAt = :now " +
+           "WHERE j.id = :id AND j.status = org.backend.model.DocumentBatchJob.Status.RUNNING " +
+           "AND j.succeededCount + j.failedCount >= j.totalCount")
+    int finishIfDone(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -3,11 +3,19 @@ package org.backend.repository;
 import org.backend.model.ForumComment;
 import org.backend.model.ForumPost;
 import org.backend.model.User;
+import org.backend.payload.response.ForumCommentResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,4 +23,81 @@ public interface ForumCommentRepository extends JpaRepository<ForumComment, Long
     List<ForumComment> findByPostOrderByCreatedAtAsc(ForumPost post);
     Page<ForumComment> findByPostOrderByCreatedAtAsc(ForumPost post, Pageable pageable);
     Page<ForumComment> findByAuthor(User author, Pageable pageable);
-} 
\ No newline at end of file
+
+    // Thread read model, oldest first, served by idx_forum_comments_post_created_at_id
+    String SUMMARY_SELECT = "SELECT new org.backend.payload.response.ForumCommentResponse(" +
+            "c.id, c.post.id, c.content, a.id, a.username, a.firstName, a.lastName, c.likeCount, c.createdAt, c.updatedAt) " +
+            "FROM ForumComment c JOIN c.author a ";
+
+    @Query(SUMMARY_SELECT + "WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<ForumCommentResponse> findCommentSummaries(@Param("postId") Long postId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+           "WHERE c.post.id = :postId AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<ForumCommentResponse> findCommentSummariesAfter(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO comment_likes (comment_id, user_id) VALUES (:commentId, :userId) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertLike(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM comment_likes WHERE comment_id = :commentId AND user_id = :userId", nativeQuery = true)
+    int deleteLike(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE ForumComment c SET c.likeCount = c.likeCount + :delta WHERE c.id = :commentId")
+    int adjustLikeCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    @Query("SELECT c.likeCount FROM ForumComment c WHERE c.id = :commentId")
+    Integer findLikeCountById(@Param("commentId") Long commentId);
+
+    @Query(value = "SELECT comment_id FROM comment_likes WHERE user_id = :userId AND comment_id IN (:commentIds)", nativeQuery = true)
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
+    // Search index feed: (id, postId, content) rows read in id order
+    @Query("SELECT c.id, c.post.id, c.content FROM ForumComment c WHERE c.id > :afterId ORDER BY c.id")
+    List<Object[]> findSearchRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT c.id, c.post.id, c.content FROM ForumComment c WHERE c.id IN :ids")
+    List<Object[]> findSearchRowsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.id FROM ForumComment c")
+    List<Long> findAllIds();
+
+    @Query("SELECT c.id FROM ForumComment c WHERE c.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    // (id, postId, post title, content, author username, createdAt) for a page of search hits
+    @Query("SELECT c.id, p.id, p.title, c.content, a.username, c.createdAt FROM ForumComment c " +
+           "JOIN c.post p JOIN c.author a WHERE c.id IN :ids")
+    List<Object[]> findSearchHitDetails(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE forum_comments c SET like_count = (SELECT COUNT(*) FROM comment_likes l WHERE l.comment_id = c.id) " +
+                   "WHERE c.like_count <> (SELECT COUNT(*) FROM comment_likes l WHERE l.comment_id = c.id)", nativeQuery = true)
+    int recountLikeCounts();
+
+    // Set-based cleanup used by deletePost/deleteComment
+    @Modifying
+    @Query(value = "DELETE FROM comment_likes WHERE comment_id IN (SELECT id FROM forum_comments WHERE post_id IN (:postIds))", nativeQuery = true)
+    int bulkDeleteLikesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM comment_likes WHERE comment_id IN (:commentIds)", nativeQuery = true)
+    int bulkDeleteLikesByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query("DELETE FROM ForumComment c WHERE c.post.id IN :postIds")
+    int bulkDeleteByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM ForumComment c WHERE c.id IN :commentIds")
+    int bulkDeleteByIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // Parent post of each comment, for the cache/counter updates that follow a bulk delete
+    @Query("SELECT c.id, c.post.id FROM ForumComment c WHERE c.id IN :commentIds")
+    List<Object[]> findPostIdsByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+}
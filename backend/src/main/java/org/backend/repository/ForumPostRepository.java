@@ -2,13 +2,143 @@ package org.backend.repository;
 
 import org.backend.model.ForumPost;
 import org.backend.model.User;
+import org.backend.payload.response.ForumPostResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ForumPostRepository extends JpaRepository<ForumPost, Long> {
     Page<ForumPost> findAllByOrderByCreatedAtDesc(Pageable pageable);
     Page<ForumPost> findByAuthor(User author, Pageable pageable);
-} 
\ No newline at end of file
+
+    // Feed read model: one constructor-projection statement per page. Only author display columns are
+    // selected, so no User/Role entities, comments or likes collections are materialized.
+    String SUMMARY_SELECT = "SELECT new org.backend.payload.response.ForumPostResponse(" +
+            "p.id, p.title, p.content, p.imageUrl, p.thumbnailUrl, p.imageStatus, a.id, a.username, a.firstName, a.lastName, p.likeCount, " +
+            "(SELECT COUNT(c) FROM ForumComment c WHERE c.post = p), p.createdAt, p.updatedAt) " +
+            "FROM ForumPost p JOIN p.author a ";
+
+    // Keyset (cursor) feed queries, served by idx_forum_posts_created_at_id. Slice skips the COUNT(*).
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<ForumPostResponse> findFeedSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+           "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<ForumPostResponse> findFeedSummariesAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM ForumPost p")
+    Page<ForumPostResponse> findPostSummaries(Pageable pageable);
+
+    // Hydrates the trending ranking when posts it has not seen yet climb into the top
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<ForumPostResponse> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // Seeds the trending ranking when there is no checkpoint: id, createdAt, likeCount, comment count
+    @Query("SELECT p.id, p.createdAt, p.likeCount, (SELECT COUNT(c) FROM ForumComment c WHERE c.post = p) " +
+           "FROM ForumPost p WHERE p.createdAt >= :since")
+    List<Object[]> findTrendingSeedRows(@Param("since") LocalDateTime since);
+
+    // Like bookkeeping: single-row insert/delete on post_likes plus an atomic counter update,
+    // so toggling never has to hydrate the likes collection.
+    @Modifying
+    @Query(value = "INSERT INTO post_likes (post_id, user_id) VALUES (:postId, :userId) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertLike(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_likes WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    int deleteLike(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE ForumPost p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+    int adjustLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    @Query("SELECT p.likeCount FROM ForumPost p WHERE p.id = :postId")
+    Integer findLikeCountById(@Param("postId") Long postId);
+
+    @Query(value = "SELECT post_id FROM post_likes WHERE user_id = :userId AND post_id IN (:postIds)", nativeQuery = true)
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // (post_id, user_id) pairs for a bounded set of posts; used to warm the feed cache
+    @Query(value = "SELECT post_id, user_id FROM post_likes WHERE post_id IN (:postIds)", nativeQuery = true)
+    List<Object[]> findLikesForPosts(@Param("postIds") Collection<Long> postIds);
+
+    // Search index feed: (id, title, content) rows read in id order so a rebuild never holds more than one batch
+    @Query("SELECT p.id, p.title, p.content FROM ForumPost p WHERE p.id > :afterId ORDER BY p.id")
+    List<Object[]> findSearchRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p.id, p.title, p.content FROM ForumPost p WHERE p.id IN :ids")
+    List<Object[]> findSearchRowsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM ForumPost p")
+    List<Long> findAllIds();
+
+    @Query("SELECT p.id FROM ForumPost p WHERE p.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    // (id, title, content, author username, createdAt) for a page of search hits
+    @Query("SELECT p.id, p.title, p.content, a.username, p.createdAt FROM ForumPost p JOIN p.author a WHERE p.id IN :ids")
+    List<Object[]> findSearchHitDetails(@Param("ids") Collection<Long> ids);
+
+    // Repairs like_count for rows that predate the column or drifted from post_likes
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE forum_posts p SET like_count = (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.id) " +
+                   "WHERE p.like_count <> (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.id)", nativeQuery = true)
+    int recountLikeCounts();
+
+    // Post edits write only the columns they change, so a like or an image job committed since the
+    // post was loaded is never overwritten by a full-entity flush
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ForumPost p SET p.title = :title, p.content = :content, p.updatedAt = :updatedAt WHERE p.id = :postId")
+    int updateText(@Param("postId") Long postId, @Param("title") String title, @Param("content") String content,
+                   @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Every new upload gets its own job id; only that job may complete or fail the image
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ForumPost p SET p.imageStatus = :processing, p.imageJobId = :jobId WHERE p.id = :postId")
+    int startImageJob(@Param("postId") Long postId, @Param("jobId") String jobId,
+                      @Param("processing") ForumPost.ImageStatus processing);
+
+    // Completion of the async image pipeline. Only applies while the post is still waiting for this
+    // job's image, so a job that finishes after the post was deleted or given a newer upload changes nothing.
+    @Modifying
+    @Transactional
+    @Query("UPDATE ForumPost p SET p.imageUrl = :imageUrl, p.thumbnailUrl = :thumbnailUrl, p.imageStatus = :ready " +
+           "WHERE p.id = :postId AND p.imageJobId = :jobId AND p.imageStatus = :processing")
+    int completeImage(@Param("postId") Long postId, @Param("jobId") String jobId,
+                      @Param("imageUrl") String imageUrl, @Param("thumbnailUrl") String thumbnailUrl,
+                      @Param("ready") ForumPost.ImageStatus ready, @Param("processing") ForumPost.ImageStatus processing);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ForumPost p SET p.imageStatus = :failed " +
+           "WHERE p.id = :postId AND p.imageJobId = :jobId AND p.imageStatus = :processing")
+    int failImage(@Param("postId") Long postId, @Param("jobId") String jobId, @Param("failed") ForumPost.ImageStatus failed,
+                  @Param("processing") ForumPost.ImageStatus processing);
+
+    // Set-based cleanup used by deletePost
+    @Modifying
+    @Query(value = "DELETE FROM post_likes WHERE post_id IN (:postIds)", nativeQuery = true)
+    int bulkDeleteLikesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM ForumPost p WHERE p.id IN :postIds")
+    int bulkDeleteByIds(@Param("postIds") Collection<Long> postIds);
+
+    // Stored files of each post, deleted from storage after a bulk delete commits
+    @Query("SELECT p.id, p.imageUrl, p.thumbnailUrl FROM ForumPost p WHERE p.id IN :postIds")
+    List<Object[]> findImageUrlsByIds(@Param("postIds") Collection<Long> postIds);
+}
@@ -0,0 +1,9 @@
+package org.backend.repository;
+
+import org.backend.model.ForumTrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ForumTrendingScoreRepository extends JpaRepository<ForumTrendingScore, Long> {
+}
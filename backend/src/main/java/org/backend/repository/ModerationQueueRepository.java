@@ -0,0 +1,154 @@
+package org.backend.repository;
+
+import org.backend.model.ModerationQueueItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ModerationQueueRepository extends JpaRepository<ModerationQueueItem, Long> {
+
+    // Keyset pages, newest report first; served by the (status,) last_reported_at, id indexes
+    @Query("SELECT q FROM ModerationQueueItem q ORDER BY q.lastReportedAt DESC, q.id DESC")
+    Slice<ModerationQueueItem> findQueue(Pageable pageable);
+
+    @Query("SELECT q FROM ModerationQueueItem q " +
+           "WHERE q.lastReportedAt < :lastReportedAt OR (q.lastReportedAt = :lastReportedAt AND q.id < :id) " +
+           "ORDER BY q.lastReportedAt DESC, q.id DESC")
+    Slice<ModerationQueueItem> findQueueAfter(@Param("lastReportedAt") LocalDateTime lastReportedAt, @Param("id") Long id,
+                                              Pageable pageable);
+
+    @Query("SELECT q FROM ModerationQueueItem q WHERE q.status = :status ORDER BY q.lastReportedAt DESC, q.id DESC")
+    Slice<ModerationQueueItem> findQueueByStatus(@Param("status") ModerationQueueItem.Status status, Pageable pageable);
+
+    @Query("SELECT q FROM ModerationQueueItem q WHERE q.status = :status " +
+           "AND (q.lastReportedAt < :lastReportedAt OR (q.lastReportedAt = :lastReportedAt AND q.id < :id)) " +
+           "ORDER BY q.lastReportedAt DESC, q.id DESC")
+    Slice<ModerationQueueItem> findQueueByStatusAfter(@Param("status") ModerationQueueItem.Status status,
+                                                      @Param("lastReportedAt") LocalDateTime lastReportedAt, @Param("id") Long id,
+                                                      Pageable pageable);
+
+    // One atomic statement per report, so concurrent reports on the same content never lose a count
+    @Modifying
+    @Query(value = "INSERT INTO moderation_queue (content_type, content_id, post_id, preview, author_username, " +
+                   "report_count, pending_count, latest_reason, first_reported_at, last_reported_at, status, updated_at) " +
+                   "VALUES (:contentType, :contentId, :postId, :preview, :authorUsername, 1, 1, :reason, :reportedAt, :reportedAt, 'PENDING', :reportedAt) " +
+                   "ON CONFLICT (content_type, content_id) DO UPDATE SET " +
+                   "report_count = moderation_queue.report_count + 1, " +
+                   "pending_count = moderation_queue.pending_count + 1, " +
+                   "latest_reason = EXCLUDED.latest_reason, " +
+                   "last_reported_at = GREATEST(moderation_queue.last_reported_at, EXCLUDED.last_reported_at), " +
+                   "preview = EXCLUDED.preview, " +
+                   "author_username = EXCLUDED.author_username, " +
+                   "status = 'PENDING', " +
+                   "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int upsertReport(@Param("contentType") String contentType, @Param("contentId") Long contentId, @Param("postId") Long postId,
+                     @Param("preview") String preview, @Param("authorUsername") String authorUsername,
+                     @Param("reason") String reason, @Param("reportedAt") LocalDateTime reportedAt);
+
+    // delta is -1 when a report leaves PENDING and +1 when it is reopened
+    @Modifying
+    @Query(value = "UPDATE moderation_queue SET " +
+                   "pending_count = GREATEST(pending_count + :delta, 0), " +
+                   "status = CASE WHEN pending_count + :delta > 0 THEN 'PENDING' ELSE 'RESOLVED' END, " +
+                   "last_resolved_at = CASE WHEN :delta < 0 THEN :now ELSE last_resolved_at END, " +
+                   "claimed_by = CASE WHEN pending_count + :delta > 0 THEN claimed_by ELSE NULL END, " +
+                   "claimed_at = CASE WHEN pending_count + :delta > 0 THEN claimed_at ELSE NULL END, " +
+                   "updated_at = :now " +
+                   "WHERE content_type = :contentType AND content_id = :contentId AND status <> 'REMOVED'", nativeQuery = true)
+    int adjustPending(@Param("contentType") String contentType, @Param("contentId") Long contentId,
+                      @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE moderation_queue SET status = 'REMOVED', pending_count = 0, claimed_by = NULL, claimed_at = NULL, " +
+                   "last_resolved_at = :now, updated_at = :now " +
+                   "WHERE status <> 'REMOVED' AND ((content_type = 'POST' AND content_id IN (:postIds)) " +
+                   "OR (content_type = 'COMMENT' AND post_id IN (:postIds)))", nativeQuery = true)
+    int markPostsRemoved(@Param("postIds") Collection<Long> postIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE moderation_queue SET status = 'REMOVED', pending_count = 0, claimed_by = NULL, claimed_at = NULL, " +
+                   "last_resolved_at = :now, updated_at = :now " +
+                   "WHERE status <> 'REMOVED' AND content_type = 'COMMENT' AND content_id IN (:commentIds)", nativeQuery = true)
+    int markCommentsRemoved(@Param("commentIds") Collection<Long> commentIds, @Param("now") LocalDateTime now);
+
+    // Claiming is decided by this conditional UPDATE, so two officials can never both win the same item
+    @Modifying
+    @Query(value = "UPDATE moderation_queue SET claimed_by = :userId, claimed_at = :now " +
+                   "WHERE content_type = :contentType AND content_id = :contentId AND status = 'PENDING' " +
+                   "AND (claimed_by IS NULL OR claimed_by = :userId OR claimed_at < :expiredBefore)", nativeQuery = true)
+    int claim(@Param("contentType") String contentType, @Param("contentId") Long contentId, @Param("userId") Long userId,
+              @Param("now") LocalDateTime now, @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    @Modifying
+    @Query(value = "UPDATE moderation_queue SET claimed_by = NULL, claimed_at = NULL " +
+                   "WHERE content_type = :contentType AND content_id = :contentId AND claimed_by = :userId", nativeQuery = true)
+    int release(@Param("contentType") String contentType, @Param("contentId") Long contentId, @Param("userId") Long userId);
+
+    // Priority index rebuild: content type, content id, post id, author id, author warnings,
+    // content created_at, pending count, claimed by, claimed at
+    @Query(value = "SELECT q.content_type, q.content_id, q.post_id, u.id, u.warnings, " +
+                   "COALESCE(p.created_at, c.created_at), q.pending_count, q.claimed_by, q.claimed_at " +
+                   "FROM moderation_queue q " +
+                   "LEFT JOIN forum_posts p ON q.content_type = 'POST' AND p.id = q.content_id " +
+                   "LEFT JOIN forum_comments c ON q.content_type = 'COMMENT' AND c.id = q.content_id " +
+                   "LEFT JOIN users u ON u.id = COALESCE(p.user_id, c.user_id) " +
+                   "WHERE q.status = 'PENDING'", nativeQuery = true)
+    List<Object[]> findPendingPriorityRows();
+
+    // Content type, content id and reporter of every pending report in the three report tables
+    @Query(value = "SELECT 'POST', pr.post_id, pr.user_id FROM post_reports pr WHERE pr.status = 'PENDING' " +
+                   "UNION ALL " +
+                   "SELECT 'COMMENT', cr.comment_id, cr.user_id FROM comment_reports cr WHERE cr.status = 'PENDING' " +
+                   "UNION ALL " +
+                   "SELECT r.type, COALESCE(r.post_id, r.comment_id), r.user_id FROM reports r " +
+                   "WHERE r.status = 'PENDING' AND (r.post_id IS NOT NULL OR r.comment_id IS NOT NULL)", nativeQuery = true)
+    List<Object[]> findPendingReporters();
+
+    /**
+     * Recompute every row from the three report tables. Only used for the initial backfill and
+     * manual rebuilds; content that has since been deleted is not included.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO moderation_queue (content_type, content_id, post_id, preview, author_username, " +
+                   "report_count, pending_count, latest_reason, first_reported_at, last_reported_at, last_resolved_at, status, updated_at) " +
+                   "SELECT agg.content_type, agg.content_id, agg.post_id, " +
+                   "LEFT(COALESCE(p.title, c.content), 200), u.username, " +
+                   "agg.report_count, agg.pending_count, agg.latest_reason, agg.first_reported_at, agg.last_reported_at, agg.last_resolved_at, " +
+                   "CASE WHEN agg.pending_count > 0 THEN 'PENDING' ELSE 'RESOLVED' END, CURRENT_TIMESTAMP " +
+                   "FROM (" +
+                   "  SELECT r.content_type, r.content_id, MAX(r.post_id) AS post_id, COUNT(*) AS report_count, " +
+                   "  COUNT(*) FILTER (WHERE r.status = 'PENDING') AS pending_count, " +
+                   "  (ARRAY_AGG(r.reason ORDER BY r.created_at DESC))[1] AS latest_reason, " +
+                   "  MIN(r.created_at) AS first_reported_at, MAX(r.created_at) AS last_reported_at, " +
+                   "  MAX(r.resolved_at) AS last_resolved_at " +
+                   "  FROM (" +
+                   "    SELECT 'POST' AS content_type, pr.post_id AS content_id, pr.post_id AS post_id, pr.reason, pr.status, pr.created_at, pr.resolved_at " +
+                   "    FROM post_reports pr " +
+                   "    UNION ALL " +
+                   "    SELECT 'COMMENT', cr.comment_id, fc.post_id, cr.reason, cr.status, cr.created_at, cr.resolved_at " +
+                   "    FROM comment_reports cr JOIN forum_comments fc ON fc.id = cr.comment_id " +
+                   "    UNION ALL " +
+                   "    SELECT ur.type, COALESCE(ur.post_id, ur.comment_id), COALESCE(ur.post_id, fc.post_id), ur.reason, ur.status, ur.created_at, ur.resolved_at " +
+                   "    FROM reports ur LEFT JOIN forum_comments fc ON fc.id = ur.comment_id " +
+                   "    WHERE ur.post_id IS NOT NULL OR ur.comment_id IS NOT NULL" +
+                   "  ) r GROUP BY r.content_type, r.content_id" +
+                   ") agg " +
+                   "LEFT JOIN forum_posts p ON agg.content_type = 'POST' AND p.id = agg.content_id " +
+                   "LEFT JOIN forum_comments c ON agg.content_type = 'COMMENT' AND c.id = agg.content_id " +
+                   "LEFT JOIN users u ON u.id = COALESCE(p.user_id, c.user_id) " +
+                   "WHERE p.id IS NOT NULL OR c.id IS NOT NULL", nativeQuery = true)
+    int rebuildFromReports();
+
+    @Modifying
+    @Query(value = "DELETE FROM moderation_queue", nativeQuery = true)
+    int deleteAllRows();
+}
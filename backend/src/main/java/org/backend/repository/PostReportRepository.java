@@ -7,9 +7,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     boolean existsByPostAndReporter(ForumPost post, User reporter);
@@ -21,4 +28,33 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     @Modifying
     @Transactional
     void deleteByPost(ForumPost post);
+
+    @Modifying
+    @Query("DELETE FROM PostReport r WHERE r.post.id IN :postIds")
+    int bulkDeleteByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // Idempotent report creation: the unique (post_id, user_id) constraint turns a repeat or a
+    // concurrent double submit into a no-op instead of a second row or a failed transaction
+    @Modifying
+    @Query(value = "INSERT INTO post_reports (post_id, user_id, reason, status, created_at) " +
+                   "VALUES (:postId, :reporterId, :reason, 'PENDING', :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("reporterId") Long reporterId,
+                       @Param("reason") String reason, @Param("now") LocalDateTime now);
+
+    @Query("SELECT r FROM PostReport r WHERE r.post.id = :postId AND r.reporter.id = :reporterId")
+    Optional<PostReport> findByPostIdAndReporterId(@Param("postId") Long postId, @Param("reporterId") Long reporterId);
+
+    // (postId, reporterId) of every report, for seeding the duplicate filter
+    @Query("SELECT r.post.id, r.reporter.id FROM PostReport r")
+    List<Object[]> findReporterPairs();
+
+    // Keeps the oldest report of each (post, reporter) pair so the unique constraint can be applied
+    @Modifying
+    @Query(value = "DELETE FROM post_reports r USING post_reports o " +
+                   "WHERE r.post_id = o.post_id AND r.user_id = o.user_id AND r.id > o.id", nativeQuery = true)
+    int deleteDuplicates();
+
+    @Modifying
+    @Query(value = "CREATE UNIQUE INDEX IF NOT EXISTS uk_post_reports_post_reporter ON post_reports (post_id, user_id)", nativeQuery = true)
+    void ensureUniqueIndex();
 }
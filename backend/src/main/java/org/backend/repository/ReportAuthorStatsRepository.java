@@ -0,0 +1,48 @@
+package org.backend.repository;
+
+import org.backend.model.ReportAuthorStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReportAuthorStatsRepository extends JpaRepository<ReportAuthorStats, Long> {
+
+    // Served by the (report_count, author_id) index
+    @Query("SELECT a FROM ReportAuthorStats a ORDER BY a.reportCount DESC, a.authorId DESC")
+    List<ReportAuthorStats> findTop(Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO report_author_stats (author_id, author_username, report_count, last_reported_at) " +
+                   "VALUES (:authorId, :username, 1, :reportedAt) " +
+                   "ON CONFLICT (author_id) DO UPDATE SET " +
+                   "report_count = report_author_stats.report_count + 1, " +
+                   "author_username = EXCLUDED.author_username, " +
+                   "last_reported_at = GREATEST(report_author_stats.last_reported_at, EXCLUDED.last_reported_at)", nativeQuery = true)
+    int increment(@Param("authorId") Long authorId, @Param("username") String username,
+                  @Param("reportedAt") LocalDateTime reportedAt);
+
+    // Reports on content that has since been deleted can no longer be attributed and are skipped
+    @Modifying
+    @Query(value = "INSERT INTO report_author_stats (author_id, author_username, report_count, last_reported_at) " +
+                   "SELECT u.id, u.username, COUNT(*), MAX(r.created_at) FROM (" +
+                   "  SELECT p.user_id AS author_id, pr.created_at FROM post_reports pr JOIN forum_posts p ON p.id = pr.post_id " +
+                   "  UNION ALL " +
+                   "  SELECT c.user_id, cr.created_at FROM comment_reports cr JOIN forum_comments c ON c.id = cr.comment_id " +
+                   "  UNION ALL " +
+                   "  SELECT COALESCE(p.user_id, c.user_id), ur.created_at FROM reports ur " +
+                   "  LEFT JOIN forum_posts p ON p.id = ur.post_id LEFT JOIN forum_comments c ON c.id = ur.comment_id " +
+                   "  WHERE p.id IS NOT NULL OR c.id IS NOT NULL" +
+                   ") r JOIN users u ON u.id = r.author_id GROUP BY u.id, u.username", nativeQuery = true)
+    int rebuildFromReports();
+
+    @Modifying
+    @Query(value = "DELETE FROM report_author_stats", nativeQuery = true)
+    int deleteAllRows();
+}
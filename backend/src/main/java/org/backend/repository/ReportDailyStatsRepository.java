@@ -0,0 +1,59 @@
+package org.backend.repository;
+
+import org.backend.model.ReportDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReportDailyStatsRepository extends JpaRepository<ReportDailyStats, Long> {
+
+    List<ReportDailyStats> findByDayGreaterThanEqualOrderByDayAsc(LocalDate from);
+
+    // One atomic statement per event, so concurrent reports on the same day never lose a count
+    @Modifying
+    @Query(value = "INSERT INTO report_daily_stats (day, content_type, reported_count, approved_count, rejected_count, resolution_seconds, updated_at) " +
+                   "VALUES (:day, :contentType, :reported, :approved, :rejected, :seconds, :now) " +
+                   "ON CONFLICT (day, content_type) DO UPDATE SET " +
+                   "reported_count = report_daily_stats.reported_count + EXCLUDED.reported_count, " +
+                   "approved_count = report_daily_stats.approved_count + EXCLUDED.approved_count, " +
+                   "rejected_count = report_daily_stats.rejected_count + EXCLUDED.rejected_count, " +
+                   "resolution_seconds = report_daily_stats.resolution_seconds + EXCLUDED.resolution_seconds, " +
+                   "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int increment(@Param("day") LocalDate day, @Param("contentType") String contentType, @Param("reported") long reported,
+                  @Param("approved") long approved, @Param("rejected") long rejected, @Param("seconds") long seconds,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * Recompute every bucket from the three report tables. Only used for the initial backfill and
+     * manual rebuilds; reports deleted along with their content are not included.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO report_daily_stats (day, content_type, reported_count, approved_count, rejected_count, resolution_seconds, updated_at) " +
+                   "WITH all_reports AS (" +
+                   "  SELECT 'POST' AS content_type, status, created_at, resolved_at FROM post_reports " +
+                   "  UNION ALL SELECT 'COMMENT', status, created_at, resolved_at FROM comment_reports " +
+                   "  UNION ALL SELECT type, status, created_at, resolved_at FROM reports" +
+                   ") " +
+                   "SELECT e.day, e.content_type, SUM(e.reported), SUM(e.approved), SUM(e.rejected), SUM(e.seconds), CURRENT_TIMESTAMP " +
+                   "FROM (" +
+                   "  SELECT CAST(created_at AS DATE) AS day, content_type, 1 AS reported, 0 AS approved, 0 AS rejected, 0 AS seconds " +
+                   "  FROM all_reports " +
+                   "  UNION ALL " +
+                   "  SELECT CAST(resolved_at AS DATE), content_type, 0, " +
+                   "  CASE WHEN status = 'APPROVED' THEN 1 ELSE 0 END, CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END, " +
+                   "  CAST(GREATEST(EXTRACT(EPOCH FROM (resolved_at - created_at)), 0) AS BIGINT) " +
+                   "  FROM all_reports WHERE status <> 'PENDING' AND resolved_at IS NOT NULL" +
+                   ") e GROUP BY e.day, e.content_type", nativeQuery = true)
+    int rebuildFromReports();
+
+    @Modifying
+    @Query(value = "DELETE FROM report_daily_stats", nativeQuery = true)
+    int deleteAllRows();
+}
@@ -7,8 +7,16 @@ import org.backend.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
     // Find reports by status
@@ -31,4 +39,63 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
     
     // Find reports by comment
     Page<Report> findByComment(ForumComment comment, Pageable pageable);
-}
\ No newline at end of file
+
+    // Set-based cleanup used by the forum delete paths
+    @Modifying
+    @Query("DELETE FROM Report r WHERE r.post.id IN :postIds " +
+           "OR r.comment.id IN (SELECT c.id FROM ForumComment c WHERE c.post.id IN :postIds)")
+    int bulkDeleteByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM Report r WHERE r.comment.id IN :commentIds")
+    int bulkDeleteByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // Resolution locks the reports before reading their status, in id order so overlapping requests
+    // queue up instead of deadlocking, and each status change is counted in the rollups only once
+    @Query(value = "SELECT id FROM reports WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockForResolution(@Param("ids") Collection<Long> ids);
+
+    // Bulk resolution reads only the ids it needs instead of loading every report with its EAGER associations:
+    // (id, type, status, postId, commentId, comment's postId, reporterId, createdAt)
+    @Query("SELECT r.id, r.type, r.status, p.id, c.id, cp.id, u.id, r.createdAt FROM Report r " +
+           "LEFT JOIN r.post p LEFT JOIN r.comment c LEFT JOIN c.post cp JOIN r.reporter u WHERE r.id IN :ids")
+    List<Object[]> findResolutionRows(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Report r SET r.status = :status, r.resolvedAt = :resolvedAt, " +
+           "r.rejectionReason = COALESCE(:rejectionReason, r.rejectionReason) WHERE r.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids, @Param("status") Report.ReportStatus status,
+                         @Param("rejectionReason") String rejectionReason, @Param("resolvedAt") LocalDateTime resolvedAt);
+
+    // Idempotent report creation. A report names either a post or a comment, and each has its own
+    // unique (content, reporter) constraint; a NULL content column never conflicts
+    @Modifying
+    @Query(value = "INSERT INTO reports (post_id, comment_id, user_id, reason, status, type, created_at) " +
+                   "VALUES (:postId, :commentId, :reporterId, :reason, 'PENDING', :type, :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("type") String type, @Param("postId") Long postId, @Param("commentId") Long commentId,
+                       @Param("reporterId") Long reporterId, @Param("reason") String reason, @Param("now") LocalDateTime now);
+
+    @Query("SELECT r FROM Report r WHERE r.post.id = :postId AND r.reporter.id = :reporterId")
+    Optional<Report> findByPostIdAndReporterId(@Param("postId") Long postId, @Param("reporterId") Long reporterId);
+
+    @Query("SELECT r FROM Report r WHERE r.comment.id = :commentId AND r.reporter.id = :reporterId")
+    Optional<Report> findByCommentIdAndReporterId(@Param("commentId") Long commentId, @Param("reporterId") Long reporterId);
+
+    // (type, postId, commentId, reporterId) of every report, for seeding the duplicate filter
+    @Query("SELECT r.type, r.post.id, r.comment.id, r.reporter.id FROM Report r")
+    List<Object[]> findReporterPairs();
+
+    @Modifying
+    @Query(value = "DELETE FROM reports r USING reports o " +
+                   "WHERE r.user_id = o.user_id AND r.id > o.id " +
+                   "AND (r.post_id = o.post_id OR r.comment_id = o.comment_id)", nativeQuery = true)
+    int deleteDuplicates();
+
+    @Modifying
+    @Query(value = "CREATE UNIQUE INDEX IF NOT EXISTS uk_reports_post_reporter ON reports (post_id, user_id)", nativeQuery = true)
+    void ensurePostUniqueIndex();
+
+    @Modifying
+    @Query(value = "CREATE UNIQUE INDEX IF NOT EXISTS uk_reports_comment_reporter ON reports (comment_id, user_id)", nativeQuery = true)
+    void ensureCommentUniqueIndex();
+}
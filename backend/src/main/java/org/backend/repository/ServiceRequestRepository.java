@@ -1,12 +1,68 @@
 package org.backend.repository;
 
 import org.backend.model.ServiceRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ServiceRequestRepository extends JpaRepository<ServiceRequest, Long> {
+public interface ServiceRequestRepository extends JpaRepository<ServiceRequest, Long>, JpaSpecificationExecutor<ServiceRequest> {
+    // Listings always show the resident, so the LAZY user is joined into the same query
+    @EntityGraph(attributePaths = "user")
     List<ServiceRequest> findByUserId(Long userId);
+
     List<ServiceRequest> findByStatus(String status);
-} 
\ No newline at end of file
+
+    Optional<ServiceRequest> findByTrackingNumber(String trackingNumber);
+
+    // Rows of (id, trackingNumber) that need a new number: missing ones, and every holder of a
+    // duplicated number (oldest first, so callers can keep the first)
+    @Query("SELECT r.id, r.trackingNumber FROM ServiceRequest r WHERE r.trackingNumber IS NULL OR r.trackingNumber IN " +
+           "(SELECT d.trackingNumber FROM ServiceRequest d GROUP BY d.trackingNumber HAVING COUNT(d) > 1) " +
+           "ORDER BY r.trackingNumber, r.id")
+    List<Object[]> findTrackingNumbersToReassign();
+
+    @Modifying
+    @Query("UPDATE ServiceRequest r SET r.trackingNumber = :trackingNumber WHERE r.id = :id")
+    int assignTrackingNumber(@Param("id") Long id, @Param("trackingNumber") String trackingNumber);
+
+    @Modifying
+    @Query(value = "CREATE UNIQUE INDEX IF NOT EXISTS uk_service_requests_tracking_number ON service_requests (tracking_number)", nativeQuery = true)
+    void ensureTrackingNumberIndex();
+
+    @EntityGraph(attributePaths = "user")
+    List<ServiceRequest> findAllByOrderByCreatedAtDesc();
+
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<ServiceRequest> findAll(Specification<ServiceRequest> spec, Pageable pageable);
+
+    // Rows of (serviceType, status, documentStatus, count)
+    @Query("SELECT r.serviceType, r.status, r.documentStatus, COUNT(r) FROM ServiceRequest r " +
+           "GROUP BY r.serviceType, r.status, r.documentStatus")
+    List<Object[]> countByServiceTypeAndStatus();
+
+    // Rows of (id, attachedDocumentPath, generatedDocumentPath) for attachments recorded as file
+    // paths rather than document store keys, which never contain a separator
+    @Query("SELECT r.id, r.attachedDocumentPath, r.generatedDocumentPath FROM ServiceRequest r " +
+           "WHERE LOCATE('/', r.attachedDocumentPath) > 0 OR LOCATE('\\', r.attachedDocumentPath) > 0 ORDER BY r.id")
+    List<Object[]> findLegacyAttachedDocumentPaths();
+
+    // Only replaces the path it was read with, so a concurrent re-attach is never overwritten
+    @Modifying
+    @Query("UPDATE ServiceRequest r SET r.attachedDocumentPath = :key WHERE r.id = :id AND r.attachedDocumentPath = :path")
+    int replaceAttachedDocumentPath(@Param("id") Long id, @Param("path") String path, @Param("key") String key);
+
+    @Modifying
+    @Query("UPDATE ServiceRequest r SET r.generatedDocumentPath = :key WHERE r.id = :id AND r.generatedDocumentPath = :path")
+    int replaceGeneratedDocumentPath(@Param("id") Long id, @Param("path") String path, @Param("key") String key);
+} 
@@ -0,0 +1,36 @@
+package org.backend.repository;
+
+import org.backend.model.ServiceRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters for the officials' service request listing. Each returns null when its argument is
+ * null, which Specification.where/and treat as "no restriction".
+ */
+public final class ServiceRequestSpecifications {
+
+    private ServiceRequestSpecifications() {
+    }
+
+    public static Specification<ServiceRequest> hasStatus(String status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<ServiceRequest> hasServiceType(String serviceType) {
+        return serviceType == null ? null : (root, query, cb) -> cb.equal(root.get("serviceType"), serviceType);
+    }
+
+    public static Specification<ServiceRequest> hasDocumentStatus(String documentStatus) {
+        return documentStatus == null ? null : (root, query, cb) -> cb.equal(root.get("documentStatus"), documentStatus);
+    }
+
+    public static Specification<ServiceRequest> createdFrom(LocalDateTime from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<ServiceRequest> createdBefore(LocalDateTime before) {
+        return before == null ? null : (root, query, cb) -> cb.lessThan(root.get("createdAt"), before);
+    }
+}
@@ -0,0 +1,21 @@
+package org.backend.repository;
+
+import org.backend.model.ServiceRequestTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ServiceRequestTransitionRepository extends JpaRepository<ServiceRequestTransition, Long> {
+
+    List<ServiceRequestTransition> findByServiceRequestIdOrderByChangedAtAscIdAsc(Long serviceRequestId);
+
+    // (serviceType, request createdAt, deliveredAt) for every logged delivery
+    @Query("SELECT r.serviceType, r.createdAt, t.changedAt FROM ServiceRequestTransition t, ServiceRequest r " +
+           "WHERE r.id = t.serviceRequestId AND t.toDocumentStatus = :delivered " +
+           "AND (t.fromDocumentStatus IS NULL OR t.fromDocumentStatus <> :delivered)")
+    List<Object[]> findDeliveries(@Param("delivered") String delivered);
+}
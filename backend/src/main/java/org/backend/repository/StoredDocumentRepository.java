@@ -0,0 +1,23 @@
+package org.backend.repository;
+
+import org.backend.model.StoredDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface StoredDocumentRepository extends JpaRepository<StoredDocument, String> {
+
+    // Identical uploads share a row; the first one's metadata is kept
+    @Modifying
+    @Query(value = "INSERT INTO stored_documents (storage_key, sha256, size_bytes, content_type, original_filename, created_at) " +
+                   "VALUES (:storageKey, :sha256, :sizeBytes, :contentType, :originalFilename, :createdAt) " +
+                   "ON CONFLICT (storage_key) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("storageKey") String storageKey, @Param("sha256") String sha256,
+                       @Param("sizeBytes") long sizeBytes, @Param("contentType") String contentType,
+                       @Param("originalFilename") String originalFilename, @Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,22 @@
+package org.backend.repository;
+
+import org.backend.model.TrackingNumberSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Repository
+public interface TrackingNumberSequenceRepository extends JpaRepository<TrackingNumberSequence, LocalDate> {
+
+    // Reserves [returned - size, returned) for the caller; the row lock makes concurrent reservations
+    // disjoint. Not @Modifying: the statement returns a row
+    @Transactional
+    @Query(value = "INSERT INTO tracking_number_sequences (day, next_value) VALUES (:day, 1 + :size) " +
+                   "ON CONFLICT (day) DO UPDATE SET next_value = tracking_number_sequences.next_value + :size " +
+                   "RETURNING next_value", nativeQuery = true)
+    Long reserve(@Param("day") LocalDate day, @Param("size") int size);
+}
@@ -93,6 +93,7 @@ public class WebSecurityConfig {
                         
                         // Allow document viewing and file serving endpoints
                         .requestMatchers("/api/service-requests/*/view-attached-document").permitAll()
+                        .requestMatchers("/api/service-requests/track/**").permitAll()
                         .requestMatchers("/api/files/documents/**").permitAll()
                         
                         // Swagger UI and API docs endpoints
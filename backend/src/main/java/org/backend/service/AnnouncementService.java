@@ -35,6 +35,14 @@ public interface AnnouncementService {
      */
     AnnouncementResponse updateAnnouncement(Long id, AnnouncementRequest request);
     
+    /**
+     * Attach a processed thumbnail to an announcement
+     * @param id The announcement ID
+     * @param thumbnailUrl The stored thumbnail URL
+     * @return The thumbnail URL it replaces, or null if there was none
+     */
+    String replaceThumbnail(Long id, String thumbnailUrl);
+    
     /**
      * Delete an announcement
      * @param id The announcement ID
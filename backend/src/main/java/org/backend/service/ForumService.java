@@ -3,11 +3,18 @@ package org.backend.service;
 import org.backend.model.*;
 import org.backend.model.CommentReport;
 import org.backend.model.PostReport;
+import org.backend.payload.response.CursorPage;
+import org.backend.payload.response.ForumCommentResponse;
+import org.backend.payload.response.ForumPostResponse;
+import org.backend.payload.response.LikeResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ForumService {
     // Post Operations
@@ -16,16 +23,29 @@ public interface ForumService {
     void deletePost(Long postId, User currentUser);
     ForumPost getPostById(Long postId);
     Page<ForumPost> getAllPosts(Pageable pageable);
+    CursorPage<ForumPostResponse> getFeed(String cursor, int size, Long viewerId);
+    Page<ForumPostResponse> getPostSummaries(Pageable pageable, Long viewerId);
+    Map<String, Object> getFeedCacheStats();
+    List<ForumPostResponse> getTrendingPosts(int limit, Long viewerId);
     Page<ForumPost> getPostsByUser(User user, Pageable pageable);
-    ForumPost toggleLikePost(Long postId, User user);
+    LikeResponse toggleLikePost(Long postId, User user);
+    LikeResponse setPostLike(Long postId, User user, boolean liked);
 
     // Comment Operations
     ForumComment createComment(Long postId, String content, User author);
     ForumComment updateComment(Long commentId, String content, User currentUser);
     void deleteComment(Long commentId, User currentUser);
     List<ForumComment> getCommentsByPost(Long postId);
+    CursorPage<ForumCommentResponse> getCommentPage(Long postId, String cursor, int size, Long viewerId);
+    int streamComments(Long postId, Long viewerId, OutputStream out);
+    boolean postExists(Long postId);
     Page<ForumComment> getCommentsByPost(Long postId, Pageable pageable);
-    ForumComment toggleLikeComment(Long commentId, User user);
+    LikeResponse toggleLikeComment(Long commentId, User user);
+    LikeResponse setCommentLike(Long commentId, User user, boolean liked);
+
+    // Moderation Operations (bulk deletes for report resolution; no ownership checks)
+    int deletePostsForModeration(Collection<Long> postIds);
+    int deleteCommentsForModeration(Collection<Long> commentIds);
 
     // Report Operations
     PostReport reportPost(Long postId, String reason, User reporter);
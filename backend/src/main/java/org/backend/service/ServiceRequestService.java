@@ -1,29 +1,53 @@
 package org.backend.service;
 
 import org.backend.model.ServiceRequest;
+import org.backend.model.StoredDocument;
 import org.backend.model.User;
 import org.backend.payload.request.ServiceRequestRequest;
 import org.backend.payload.response.ServiceRequestResponse;
+import org.backend.payload.response.ServiceRequestTimelineEntry;
 import org.backend.repository.ServiceRequestRepository;
+import org.backend.repository.ServiceRequestSpecifications;
 import org.backend.repository.UserRepository;
+import org.backend.security.services.UserDetailsImpl;
+import org.backend.service.document.DocumentGenerationService;
+import org.backend.service.document.DocumentStore;
+import org.backend.service.realtime.RealtimeEventPublisher;
+import org.backend.service.servicerequest.ServiceRequestCounters;
+import org.backend.service.servicerequest.ServiceRequestTransitionLog;
+import org.backend.service.servicerequest.TrackingNumberGenerator;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.FileSystemResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class ServiceRequestService {
 
     private static final Logger logger = LoggerFactory.getLogger(ServiceRequestService.class);
+    private static final int MAX_PAGE_SIZE = 100;
+
+    public static final String OFFICIALS_TOPIC = "/topic/officials/service-requests";
+    public static final String USER_QUEUE = "/queue/service-requests";
 
     @Autowired
     private ServiceRequestRepository serviceRequestRepository;
@@ -32,7 +56,22 @@ public class ServiceRequestService {
     private UserRepository userRepository;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private RealtimeEventPublisher realtimeEventPublisher;
+
+    @Autowired
+    private ServiceRequestCounters serviceRequestCounters;
+
+    @Autowired
+    private DocumentGenerationService documentGenerationService;
+
+    @Autowired
+    private DocumentStore documentStore;
+
+    @Autowired
+    private TrackingNumberGenerator trackingNumberGenerator;
+
+    @Autowired
+    private ServiceRequestTransitionLog transitionLog;
 
     @Transactional
     public ServiceRequestResponse createServiceRequest(ServiceRequestRequest request) {
@@ -47,8 +86,11 @@ public class ServiceRequestService {
         serviceRequest.setContactNumber(request.getContactNumber());
         serviceRequest.setAddress(request.getAddress());
         serviceRequest.setStatus("PENDING");
+        serviceRequest.setTrackingNumber(trackingNumberGenerator.next());
+        serviceRequest.assignDocumentTemplate(documentGenerationService.templateIdFor(request.getServiceType()));
 
         ServiceRequest savedRequest = serviceRequestRepository.save(serviceRequest);
+        transitioned(null, savedRequest, user);
 
         ServiceRequestResponse response = new ServiceRequestResponse(
                 savedRequest.getId(),
@@ -67,9 +109,10 @@ public class ServiceRequestService {
                 savedRequest.getGeneratedDocumentPath(),
                 savedRequest.getAttachedDocumentPath()
         );
+        response.setTrackingNumber(savedRequest.getTrackingNumber());
 
-        // Send real-time update to officials
-        messagingTemplate.convertAndSend("/topic/service-requests", response);
+        // Send real-time update to officials and the resident
+        publish(savedRequest, response);
 
         return response;
     }
@@ -79,8 +122,10 @@ public class ServiceRequestService {
         ServiceRequest request = serviceRequestRepository.findById(requestId)
                 .orElseThrow(() -> new RuntimeException("Service request not found"));
 
+        ServiceRequestCounters.Key before = ServiceRequestCounters.keyOf(request);
         request.setStatus(status);
         ServiceRequest updatedRequest = serviceRequestRepository.save(request);
+        transitioned(before, updatedRequest, null);
 
         ServiceRequestResponse response = new ServiceRequestResponse(
                 updatedRequest.getId(),
@@ -101,55 +146,109 @@ public class ServiceRequestService {
         );
 
         // Send real-time update
-        messagingTemplate.convertAndSend("/topic/service-requests", response);
+        publish(updatedRequest, response);
 
         return response;
     }
 
+    public Map<String, Object> getServiceRequestStats() {
+        return serviceRequestCounters.getStats();
+    }
+
+    public Map<String, Object> getTurnaroundStats() {
+        return transitionLog.getTurnaroundStats();
+    }
+
+    /**
+     * Every logged status change of a request, oldest first.
+     */
+    public List<ServiceRequestTimelineEntry> getTimeline(Long requestId) {
+        if (!serviceRequestRepository.existsById(requestId)) {
+            throw new RuntimeException("Service request not found");
+        }
+        return transitionLog.getTimeline(requestId).stream()
+                .map(ServiceRequestTimelineEntry::of)
+                .collect(Collectors.toList());
+    }
+
     public List<ServiceRequestResponse> getAllServiceRequests() {
-        return serviceRequestRepository.findAll().stream()
-                .map(request -> new ServiceRequestResponse(
-                        request.getId(),
-                        request.getServiceType(),
-                        request.getStatus(),
-                        request.getDetails(),
-                        request.getPurpose(),
-                        request.getContactNumber(),
-                        request.getAddress(),
-                        request.getCreatedAt(),
-                        request.getUpdatedAt(),
-                        request.getUser().getFirstName() + " " + request.getUser().getLastName(),
-                        request.getUser().getEmail(),
-                        request.getUser().getPhone(),
-                        request.getDocumentStatus(),
-                        request.getGeneratedDocumentPath(),
-                        request.getAttachedDocumentPath()
-                ))
+        return serviceRequestRepository.findAllByOrderByCreatedAtDesc().stream()
+                .map(ServiceRequestService::toResponse)
                 .collect(Collectors.toList());
     }
 
     public List<ServiceRequestResponse> getServiceRequestsByUserId(Long userId) {
         return serviceRequestRepository.findByUserId(userId).stream()
-                .map(request -> new ServiceRequestResponse(
-                        request.getId(),
-                        request.getServiceType(),
-                        request.getStatus(),
-                        request.getDetails(),
-                        request.getPurpose(),
-                        request.getContactNumber(),
-                        request.getAddress(),
-                        request.getCreatedAt(),
-                        request.getUpdatedAt(),
-                        request.getUser().getFirstName() + " " + request.getUser().getLastName(),
-                        request.getUser().getEmail(),
-                        request.getUser().getPhone(),
-                        request.getDocumentStatus(),
-                        request.getGeneratedDocumentPath(),
-                        request.getAttachedDocumentPath()
-                ))
+                .map(ServiceRequestService::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of service requests for the officials' dashboard, newest first. Every filter is
+     * optional; {@code to} is inclusive. The resident is fetched in the same query as the page.
+     */
+    public Page<ServiceRequestResponse> searchServiceRequests(String status, String serviceType, String documentStatus,
+                                                              LocalDate from, LocalDate to, int page, int size) {
+        Specification<ServiceRequest> spec = Specification
+                .where(ServiceRequestSpecifications.hasStatus(blankToNull(status)))
+                .and(ServiceRequestSpecifications.hasServiceType(blankToNull(serviceType)))
+                .and(ServiceRequestSpecifications.hasDocumentStatus(blankToNull(documentStatus)))
+                .and(ServiceRequestSpecifications.createdFrom(from != null ? from.atStartOfDay() : null))
+                .and(ServiceRequestSpecifications.createdBefore(to != null ? to.plusDays(1).atStartOfDay() : null));
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_PAGE_SIZE)),
+                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        return serviceRequestRepository.findAll(spec, pageable).map(ServiceRequestService::toResponse);
+    }
+
+    private static ServiceRequestResponse toResponse(ServiceRequest request) {
+        User user = request.getUser();
+        ServiceRequestResponse response = new ServiceRequestResponse(
+                request.getId(),
+                request.getServiceType(),
+                request.getStatus(),
+                request.getDetails(),
+                request.getPurpose(),
+                request.getContactNumber(),
+                request.getAddress(),
+                request.getCreatedAt(),
+                request.getUpdatedAt(),
+                user.getFirstName() + " " + user.getLastName(),
+                user.getEmail(),
+                user.getPhone(),
+                request.getDocumentStatus(),
+                request.getGeneratedDocumentPath(),
+                request.getAttachedDocumentPath()
+        );
+        response.setTrackingNumber(request.getTrackingNumber());
+        return response;
+    }
+
+    /**
+     * Send a request's new state to the officials' topic and to the queue of the resident who made
+     * it once the transaction commits. The response carries the resident's contact details, so no
+     * other resident receives it.
+     */
+    private void publish(ServiceRequest request, ServiceRequestResponse response) {
+        String key = "service-request:" + request.getId();
+        realtimeEventPublisher.publish(OFFICIALS_TOPIC, key, response);
+        realtimeEventPublisher.publishToUser(request.getUser().getUsername(), USER_QUEUE, key, response);
+    }
+
+    // Counters and the transition log both move once the transaction commits
+    private void transitioned(ServiceRequestCounters.Key before, ServiceRequest request, User actor) {
+        serviceRequestCounters.changed(before, ServiceRequestCounters.keyOf(request));
+        transitionLog.record(before, request, actor != null ? actor.getId() : currentUserId());
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl user ? user.getId() : null;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
     /**
      * Get the generated document for a service request
      */
@@ -161,8 +260,8 @@ public class ServiceRequestService {
             throw new RuntimeException("No document has been generated for this request");
         }
 
-        Path path = Paths.get(request.getGeneratedDocumentPath());
-        Resource resource = new UrlResource(path.toUri());
+        Path path = documentGenerationService.locate(request.getGeneratedDocumentPath());
+        Resource resource = new FileSystemResource(path);
 
         if (resource.exists() && resource.isReadable()) {
             return resource;
@@ -179,8 +278,10 @@ public class ServiceRequestService {
         ServiceRequest request = serviceRequestRepository.findById(requestId)
                 .orElseThrow(() -> new RuntimeException("Service request not found"));
 
+        ServiceRequestCounters.Key before = ServiceRequestCounters.keyOf(request);
         request.markDocumentAsDelivered();
         ServiceRequest updatedRequest = serviceRequestRepository.save(request);
+        transitioned(before, updatedRequest, null);
 
         ServiceRequestResponse response = new ServiceRequestResponse(
                 updatedRequest.getId(),
@@ -201,7 +302,7 @@ public class ServiceRequestService {
         );
 
         // Send real-time update
-        messagingTemplate.convertAndSend("/topic/service-requests", response);
+        publish(updatedRequest, response);
 
         return response;
     }
@@ -251,27 +352,17 @@ public class ServiceRequestService {
         }
 
         try {
-            // Create a directory for attached documents if it doesn't exist
-            java.nio.file.Path attachedDocsDir = java.nio.file.Paths.get(System.getProperty("user.dir"), "documents", "attached");
-            if (!java.nio.file.Files.exists(attachedDocsDir)) {
-                java.nio.file.Files.createDirectories(attachedDocsDir);
+            // Store by content hash; the request keeps the relative storage key
+            StoredDocument stored;
+            try (java.io.InputStream in = file.getInputStream()) {
+                stored = documentStore.store(in, originalFilename, contentType);
             }
-
-            // Generate a unique filename
-            String fileExtension = originalFilename.contains(".") 
-                ? originalFilename.substring(originalFilename.lastIndexOf(".")) 
-                : "";
-            String filename = "attached_" + requestId + "_" + System.currentTimeMillis() + fileExtension;
-
-            // Save the file
-            java.nio.file.Path filePath = attachedDocsDir.resolve(filename);
-            java.nio.file.Files.copy(file.getInputStream(), filePath, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-
-            // Update the service request with the document path (store absolute path for better reliability)
-            String documentPath = filePath.toAbsolutePath().toString();
-            logger.info("Storing document with absolute path: {}", documentPath);
+            String documentPath = stored.getStorageKey();
+            logger.info("Stored attached document for request {} as {}", requestId, documentPath);
+            ServiceRequestCounters.Key before = ServiceRequestCounters.keyOf(request);
             request.markDocumentAsAttached(official, documentPath);
             ServiceRequest updatedRequest = serviceRequestRepository.save(request);
+            transitioned(before, updatedRequest, official);
 
             ServiceRequestResponse response = new ServiceRequestResponse(
                     updatedRequest.getId(),
@@ -292,7 +383,7 @@ public class ServiceRequestService {
             );
 
             // Send real-time update
-            messagingTemplate.convertAndSend("/topic/service-requests", response);
+            publish(updatedRequest, response);
 
             return response;
         } catch (java.io.IOException e) {
@@ -313,8 +404,10 @@ public class ServiceRequestService {
             throw new RuntimeException("Only pending requests can be cancelled");
         }
 
+        ServiceRequestCounters.Key before = ServiceRequestCounters.keyOf(request);
         request.setStatus("CANCELLED");
         ServiceRequest updatedRequest = serviceRequestRepository.save(request);
+        transitioned(before, updatedRequest, null);
 
         ServiceRequestResponse response = new ServiceRequestResponse(
                 updatedRequest.getId(),
@@ -335,7 +428,7 @@ public class ServiceRequestService {
         );
 
         // Send real-time update
-        messagingTemplate.convertAndSend("/topic/service-requests", response);
+        publish(updatedRequest, response);
 
         return response;
     }
@@ -345,17 +438,58 @@ public class ServiceRequestService {
      */
     @Transactional
     public ServiceRequestResponse generateDocument(Long requestId, User official) {
+        ServiceRequest request = findForGeneration(requestId);
+        return saveGeneratedDocument(request, renderDocument(request, official), official);
+    }
+
+    /**
+     * Load a request a document may be generated for, with its resident initialized so it can
+     * still be rendered once the transaction has ended.
+     */
+    @Transactional(readOnly = true)
+    public ServiceRequest findForGeneration(Long requestId) {
         ServiceRequest request = serviceRequestRepository.findById(requestId)
                 .orElseThrow(() -> new RuntimeException("Service request not found"));
 
-        // Check if document is attached
-        if (request.getAttachedDocumentPath() == null) {
-            throw new RuntimeException("No document has been attached to this request");
+        if ("CANCELLED".equals(request.getStatus()) || "REJECTED".equals(request.getStatus())) {
+            throw new RuntimeException("Documents cannot be generated for a " + request.getStatus().toLowerCase() + " request");
         }
+        Hibernate.initialize(request.getUser());
+        return request;
+    }
 
+    /**
+     * Render the certificate for a request from its template. Touches no database state, so batch
+     * generation runs it outside any transaction.
+     *
+     * @return the file name of the new PDF, as recorded on the request
+     */
+    public String renderDocument(ServiceRequest request, User official) {
+        try {
+            return documentGenerationService.render(request, official);
+        } catch (java.io.IOException e) {
+            throw new RuntimeException("Failed to generate document: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Save a certificate rendered from a copy of the request loaded in an earlier transaction.
+     */
+    @Transactional
+    public ServiceRequestResponse recordGeneratedDocument(ServiceRequest rendered, String documentPath, User official) {
+        ServiceRequest request = findForGeneration(rendered.getId());
+        request.assignDocumentTemplate(rendered.getDocumentTemplateId());
+        return saveGeneratedDocument(request, documentPath, official);
+    }
+
+    private ServiceRequestResponse saveGeneratedDocument(ServiceRequest request, String documentPath, User official) {
+        replaceGeneratedDocument(request.getGeneratedDocumentPath(), documentPath);
+
+        ServiceRequestCounters.Key before = ServiceRequestCounters.keyOf(request);
         // Mark the document as generated
-        request.markDocumentAsGenerated(request.getAttachedDocumentPath(), official);
+        request.markDocumentAsGenerated(documentPath, official);
         ServiceRequest updatedRequest = serviceRequestRepository.save(request);
+        transitioned(before, updatedRequest, official);
 
         ServiceRequestResponse response = new ServiceRequestResponse(
                 updatedRequest.getId(),
@@ -376,11 +510,33 @@ public class ServiceRequestService {
         );
 
         // Send real-time update
-        messagingTemplate.convertAndSend("/topic/service-requests", response);
+        publish(updatedRequest, response);
 
         return response;
     }
 
+    /**
+     * Once the transaction commits, delete the certificate the new one replaces; if it rolls back,
+     * delete the new one instead.
+     */
+    private void replaceGeneratedDocument(String previousPath, String newPath) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    if (previousPath != null && !previousPath.equals(newPath)) {
+                        documentGenerationService.delete(previousPath);
+                    }
+                } else {
+                    documentGenerationService.delete(newPath);
+                }
+            }
+        });
+    }
+
     /**
      * Get the attached document for a service request
      */
@@ -395,16 +551,8 @@ public class ServiceRequestService {
         try {
             // Get the document path from the database
             String attachedDocumentPath = request.getAttachedDocumentPath();
-            Path path;
-            
-            // Try to handle both absolute and relative paths
-            if (attachedDocumentPath.startsWith("/") || attachedDocumentPath.contains(":")) {
-                // This is already an absolute path
-                path = Paths.get(attachedDocumentPath);
-            } else {
-                // This is a relative path, resolve it against the application's base directory
-                path = Paths.get(System.getProperty("user.dir"), attachedDocumentPath);
-            }
+            // A storage key, or an absolute or relative path from before the document store
+            Path path = documentStore.locate(attachedDocumentPath);
             
             // Log what path we're trying to access
             logger.info("Trying to access document at: {}", path.toAbsolutePath().toString());
@@ -415,7 +563,7 @@ public class ServiceRequestService {
                 throw new RuntimeException("Document file not found");
             }
             
-            Resource resource = new UrlResource(path.toUri());
+            Resource resource = new FileSystemResource(path);
             
             if (resource.exists() && resource.isReadable()) {
                 return resource;
@@ -3,6 +3,7 @@ package org.backend.service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 public interface StorageService {
@@ -14,6 +15,15 @@ public interface StorageService {
      * @return Public URL to access the file
      */
     String uploadFile(MultipartFile file, String prefix) throws IOException;
+
+    /**
+     * Upload a file from local disk, streaming it instead of reading it into memory
+     * @param file Path of the file to upload
+     * @param contentType MIME type to store with the object
+     * @param prefix Optional prefix for the file path
+     * @return Public URL to access the file
+     */
+    String uploadFile(Path file, String contentType, String prefix) throws IOException;
     
     /**
      * Delete a file from storage
@@ -0,0 +1,211 @@
+package org.backend.service.document;
+
+import jakarta.annotation.PreDestroy;
+import org.backend.model.DocumentBatchItem;
+import org.backend.model.DocumentBatchJob;
+import org.backend.model.ServiceRequest;
+import org.backend.model.User;
+import org.backend.payload.response.DocumentBatchJobResponse;
+import org.backend.repository.DocumentBatchItemRepository;
+import org.backend.repository.DocumentBatchJobRepository;
+import org.backend.repository.UserRepository;
+import org.backend.service.ServiceRequestService;
+import org.backend.service.realtime.RealtimeEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates certificates for many service requests at once.
+ *
+ * A job and one item per request are saved up front, then the items run on a fixed pool with one
+ * thread per core. Each item loads its request, renders the PDF outside any transaction (so the
+ * small connection pool is only held for the reads and the final save), and then records the
+ * document, its item and the job's counters in one short transaction of its own; a failure only
+ * marks that item FAILED. Progress goes to /topic/document-batches/{jobId} after each item
+ * commits, coalesced so a burst of items sends only the latest counts, and the finished job is also
+ * announced on /topic/document-batches.
+ *
+ * Items still PENDING after a restart are picked up again by {@link #resumeUnfinished()}.
+ */
+@Service
+public class DocumentBatchService {
+    private static final Logger logger = LoggerFactory.getLogger(DocumentBatchService.class);
+
+    public static final int MAX_ITEMS = 1000;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final DocumentBatchJobRepository jobRepository;
+    private final DocumentBatchItemRepository itemRepository;
+    private final ServiceRequestService serviceRequestService;
+    private final DocumentGenerationService documentGenerationService;
+    private final UserRepository userRepository;
+    private final RealtimeEventPublisher realtimeEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public DocumentBatchService(DocumentBatchJobRepository jobRepository, DocumentBatchItemRepository itemRepository,
+                                ServiceRequestService serviceRequestService,
+                                DocumentGenerationService documentGenerationService,
+                                UserRepository userRepository, RealtimeEventPublisher realtimeEventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${documents.batch.workers:0}") int workers) {
+        this.jobRepository = jobRepository;
+        this.itemRepository = itemRepository;
+        this.serviceRequestService = serviceRequestService;
+        this.documentGenerationService = documentGenerationService;
+        this.userRepository = userRepository;
+        this.realtimeEventPublisher = realtimeEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Items are bounded per job, so the queue only ever holds what has been accepted
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "document-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Save a job for the given requests and start generating. Returns once the job is saved.
+     *
+     * @throws IllegalArgumentException if no requests or too many are given
+     */
+    public DocumentBatchJobResponse submit(List<Long> requestIds, Long officialId) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(requestIds != null ? requestIds : List.of()));
+        ids.removeIf(Objects::isNull);
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one service request is required");
+        }
+        if (ids.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("At most " + MAX_ITEMS + " documents can be generated at once");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        DocumentBatchJob job = new DocumentBatchJob(null, officialId, DocumentBatchJob.Status.RUNNING,
+                ids.size(), 0, 0, now, null);
+        List<DocumentBatchItem> items = transactionTemplate.execute(tx -> {
+            jobRepository.save(job);
+            List<DocumentBatchItem> pending = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                pending.add(new DocumentBatchItem(null, job.getId(), id, DocumentBatchItem.Status.PENDING, null, null));
+            }
+            return itemRepository.saveAll(pending);
+        });
+
+        logger.info("Document batch {} started by user {} for {} requests", job.getId(), officialId, ids.size());
+        dispatch(job, items);
+        return DocumentBatchJobResponse.of(job, null);
+    }
+
+    public Optional<DocumentBatchJobResponse> findJob(Long jobId, boolean withItems) {
+        return jobRepository.findById(jobId).map(job -> DocumentBatchJobResponse.of(job, withItems
+                ? itemRepository.findByJobIdOrderByIdAsc(jobId).stream()
+                        .map(item -> new DocumentBatchJobResponse.Item(item.getServiceRequestId(), item.getStatus(),
+                                item.getError(), item.getFinishedAt()))
+                        .toList()
+                : null));
+    }
+
+    /**
+     * Requeue the pending items of jobs that were running when the application stopped.
+     */
+    public void resumeUnfinished() {
+        for (DocumentBatchJob job : jobRepository.findByStatus(DocumentBatchJob.Status.RUNNING)) {
+            List<DocumentBatchItem> pending = itemRepository.findByJobIdAndStatusOrderByIdAsc(
+                    job.getId(), DocumentBatchItem.Status.PENDING);
+            if (pending.isEmpty()) {
+                transactionTemplate.executeWithoutResult(tx -> jobRepository.finishIfDone(job.getId(), LocalDateTime.now()));
+                continue;
+            }
+            logger.info("Resuming document batch {} with {} pending items", job.getId(), pending.size());
+            dispatch(job, pending);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            // Their items stay PENDING and are resumed on the next start
+            logger.warn("Document workers did not finish within 30s; {} items left pending", executor.shutdownNow().size());
+        }
+    }
+
+    private void dispatch(DocumentBatchJob job, List<DocumentBatchItem> items) {
+        User official = userRepository.findById(job.getRequestedById()).orElse(null);
+        for (DocumentBatchItem item : items) {
+            executor.execute(() -> generate(job.getId(), item, official));
+        }
+    }
+
+    private void generate(Long jobId, DocumentBatchItem item, User official) {
+        String documentPath = null;
+        try {
+            ServiceRequest request = serviceRequestService.findForGeneration(item.getServiceRequestId());
+            documentPath = serviceRequestService.renderDocument(request, official);
+            String path = documentPath;
+            transactionTemplate.executeWithoutResult(tx -> {
+                serviceRequestService.recordGeneratedDocument(request, path, official);
+                finishItem(jobId, item.getId(), DocumentBatchItem.Status.SUCCEEDED, null);
+            });
+        } catch (Exception e) {
+            logger.warn("Document batch {}: request {} failed: {}", jobId, item.getServiceRequestId(), e.getMessage());
+            if (documentPath != null) {
+                documentGenerationService.delete(documentPath);
+            }
+            try {
+                String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+                transactionTemplate.executeWithoutResult(tx ->
+                        finishItem(jobId, item.getId(), DocumentBatchItem.Status.FAILED, error));
+            } catch (Exception inner) {
+                logger.error("Document batch {}: could not record failure of request {}: {}",
+                        jobId, item.getServiceRequestId(), inner.getMessage(), inner);
+            }
+        }
+    }
+
+    private void finishItem(Long jobId, Long itemId, DocumentBatchItem.Status status, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        String message = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (itemRepository.finish(itemId, status, message, now) == 0) {
+            return;
+        }
+        boolean succeeded = status == DocumentBatchItem.Status.SUCCEEDED;
+        jobRepository.addCounts(jobId, succeeded ? 1 : 0, succeeded ? 0 : 1);
+        boolean finished = jobRepository.finishIfDone(jobId, now) == 1;
+        publish(jobId, finished);
+    }
+
+    // Sent when the item's transaction commits; the job row already carries its updated counts
+    private void publish(Long jobId, boolean finished) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            DocumentBatchJobResponse progress = DocumentBatchJobResponse.of(job, null);
+            String key = "document-batch:" + jobId;
+            realtimeEventPublisher.publish("/topic/document-batches/" + jobId, key, progress);
+            if (finished) {
+                logger.info("Document batch {} finished: {} succeeded, {} failed",
+                        jobId, job.getSucceededCount(), job.getFailedCount());
+                realtimeEventPublisher.publish("/topic/document-batches", key, progress);
+            }
+        });
+    }
+}
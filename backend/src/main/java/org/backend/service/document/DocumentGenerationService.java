@@ -0,0 +1,385 @@
+package org.backend.service.document;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.Image;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfWriter;
+import org.backend.model.ServiceRequest;
+import org.backend.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Renders barangay certificates and clearances to PDF.
+ *
+ * Each service type has a JSON layout under {@code document-templates/} on the classpath, named
+ * after the type ("Barangay Clearance" uses barangay-clearance.json) and falling back to
+ * default.json. Layouts are parsed and their placeholders compiled once, and fonts are loaded once
+ * per name, so rendering a certificate only lays out text. The PDF is streamed straight to a file
+ * in the generated documents directory and moved into place when complete; the service is
+ * stateless per call and safe to use from many threads. Requests record the PDF by its file name
+ * within that directory, so the directory can move between hosts or be reconfigured.
+ *
+ * Placeholders: fullName, firstName, lastName, address, purpose, details, serviceType,
+ * trackingNumber, requestId, issuedDate ("17th day of October, 2026"), issuedOn
+ * ("October 17, 2026"), barangay, municipality, province, captain, official, officialPosition.
+ */
+@Service
+public class DocumentGenerationService {
+    private static final Logger logger = LoggerFactory.getLogger(DocumentGenerationService.class);
+
+    public static final String DEFAULT_TEMPLATE = "default";
+    private static final String TEMPLATE_DIR = "document-templates/";
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final DateTimeFormatter MONTH_YEAR = DateTimeFormatter.ofPattern("MMMM, yyyy", Locale.ENGLISH);
+    private static final DateTimeFormatter LONG_DATE = DateTimeFormatter.ofPattern("MMMM d, yyyy", Locale.ENGLISH);
+    private static final int QR_SIZE = 96;
+    private static final Pattern GENERATED_NAME = Pattern.compile("certificate_\\d+_\\d+\\.pdf");
+
+    private final ObjectMapper objectMapper;
+    private final DocumentStore documentStore;
+    private final Path outputDir;
+    private final Map<String, String> letterhead;
+    private final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<String, BaseFont> fonts = new ConcurrentHashMap<>();
+
+    public DocumentGenerationService(ObjectMapper objectMapper, DocumentStore documentStore,
+                                     @Value("${documents.generated-dir:${user.dir}/documents/generated}") String outputDir,
+                                     @Value("${documents.barangay-name:Barangay}") String barangay,
+                                     @Value("${documents.municipality:}") String municipality,
+                                     @Value("${documents.province:}") String province,
+                                     @Value("${documents.captain-name:}") String captain) {
+        this.objectMapper = objectMapper;
+        this.documentStore = documentStore;
+        this.outputDir = Paths.get(outputDir).toAbsolutePath().normalize();
+        this.letterhead = Map.of("barangay", barangay, "municipality", municipality,
+                "province", province, "captain", captain);
+    }
+
+    /**
+     * The template a new request of this service type should use.
+     */
+    public String templateIdFor(String serviceType) {
+        String id = slug(serviceType);
+        return !id.isEmpty() && template(id).isPresent() ? id : DEFAULT_TEMPLATE;
+    }
+
+    /**
+     * Render the certificate for a request into the generated documents directory.
+     *
+     * @param official the official issuing it, or null
+     * @return the file name of the new PDF within the generated documents directory
+     * @throws IOException if the PDF cannot be written
+     */
+    public String render(ServiceRequest request, User official) throws IOException {
+        CompiledTemplate template = resolve(request);
+        Map<String, String> values = values(request, official);
+
+        Files.createDirectories(outputDir);
+        Path target = outputDir.resolve("certificate_" + request.getId() + "_" + System.currentTimeMillis() + ".pdf");
+        Path partial = Files.createTempFile(outputDir, "certificate-", ".part");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial), 64 * 1024)) {
+                write(template, values, request.getTrackingNumber(), out);
+            }
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        return target.getFileName().toString();
+    }
+
+    /**
+     * Where a generated document recorded on a service request lives: a file name returned by
+     * {@link #render}, or anything {@link DocumentStore#locate} understands, such as the absolute
+     * paths recorded before names were.
+     */
+    public Path locate(String nameOrPath) {
+        if (GENERATED_NAME.matcher(nameOrPath).matches()) {
+            return outputDir.resolve(nameOrPath);
+        }
+        return documentStore.locate(nameOrPath);
+    }
+
+    /**
+     * Delete a PDF this service produced. Anything outside the generated documents directory (such
+     * as an attached upload) is left alone.
+     */
+    public void delete(String path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Path file = locate(path).toAbsolutePath().normalize();
+            if (file.startsWith(outputDir)) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not delete generated document {}: {}", path, e.getMessage());
+        }
+    }
+
+    private CompiledTemplate resolve(ServiceRequest request) {
+        String assigned = request.getDocumentTemplateId();
+        if (assigned != null) {
+            Optional<CompiledTemplate> template = template(assigned);
+            if (template.isPresent()) {
+                return template.get();
+            }
+            logger.warn("Document template {} for request {} not found; using the one for its service type",
+                    assigned, request.getId());
+        }
+        String id = templateIdFor(request.getServiceType());
+        request.assignDocumentTemplate(id);
+        return template(id).orElseThrow(() -> new IllegalStateException("Document template " + id + " is missing"));
+    }
+
+    private Optional<CompiledTemplate> template(String id) {
+        CompiledTemplate cached = templates.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Misses are not cached: ids come from free-text service types
+        Optional<CompiledTemplate> loaded = load(id);
+        loaded.ifPresent(template -> templates.putIfAbsent(id, template));
+        return loaded;
+    }
+
+    private Optional<CompiledTemplate> load(String id) {
+        if (!id.matches("[a-z0-9-]+")) {
+            return Optional.empty();
+        }
+        ClassPathResource resource = new ClassPathResource(TEMPLATE_DIR + id + ".json");
+        if (!resource.exists()) {
+            return Optional.empty();
+        }
+        try (InputStream in = resource.getInputStream()) {
+            DocumentTemplate template = objectMapper.readValue(in, DocumentTemplate.class);
+            logger.info("Loaded document template {}", id);
+            return Optional.of(new CompiledTemplate(template, font(template.getFont()), font(template.getBoldFont())));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid document template " + id, e);
+        }
+    }
+
+    private BaseFont font(String name) {
+        return fonts.computeIfAbsent(name, spec -> {
+            try {
+                if (spec.startsWith(CLASSPATH_PREFIX)) {
+                    String path = spec.substring(CLASSPATH_PREFIX.length());
+                    byte[] ttf;
+                    try (InputStream in = new ClassPathResource(path).getInputStream()) {
+                        ttf = in.readAllBytes();
+                    }
+                    return BaseFont.createFont(path, BaseFont.IDENTITY_H, BaseFont.EMBEDDED, true, ttf, null);
+                }
+                return BaseFont.createFont(spec, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+            } catch (IOException | DocumentException e) {
+                throw new IllegalStateException("Cannot load font " + spec, e);
+            }
+        });
+    }
+
+    private void write(CompiledTemplate template, Map<String, String> values, String trackingNumber,
+                       OutputStream out) throws IOException {
+        Document document = new Document(PageSize.LETTER, 72, 72, 54, 54);
+        try {
+            PdfWriter.getInstance(document, out).setFullCompression();
+            document.addTitle(template.title.render(values));
+            document.addCreator("Barangay360");
+            document.open();
+
+            for (String line : letterheadLines(values)) {
+                document.add(paragraph(line, template.regular, Element.ALIGN_CENTER, 0));
+            }
+            document.add(paragraph(values.get("barangay"), template.heading, Element.ALIGN_CENTER, 24));
+
+            document.add(paragraph(template.title.render(values), template.titleFont, Element.ALIGN_CENTER, 4));
+            if (!template.subtitle.isEmpty()) {
+                document.add(paragraph(template.subtitle.render(values), template.regular, Element.ALIGN_CENTER, 4));
+            }
+            document.add(paragraph(" ", template.regular, Element.ALIGN_LEFT, 12));
+
+            if (!template.salutation.isEmpty()) {
+                document.add(paragraph(template.salutation.render(values), template.heading, Element.ALIGN_LEFT, 12));
+            }
+            for (TemplateText text : template.paragraphs) {
+                Paragraph paragraph = paragraph(text.render(values), template.regular, Element.ALIGN_JUSTIFIED, 12);
+                paragraph.setFirstLineIndent(36);
+                paragraph.setLeading(template.regular.getSize() * 1.5f);
+                document.add(paragraph);
+            }
+
+            document.add(paragraph(" ", template.regular, Element.ALIGN_LEFT, 36));
+            document.add(paragraph(template.signatoryName.render(values), template.heading, Element.ALIGN_RIGHT, 0));
+            document.add(paragraph(template.signatoryTitle.render(values), template.regular, Element.ALIGN_RIGHT, 24));
+
+            if (template.qrCode && trackingNumber != null) {
+                document.add(qrCode(trackingNumber));
+                document.add(paragraph("Tracking No. " + trackingNumber, template.small, Element.ALIGN_LEFT, 0));
+            }
+            if (!template.footer.isEmpty()) {
+                document.add(paragraph(template.footer.render(values), template.small, Element.ALIGN_LEFT, 0));
+            }
+        } catch (DocumentException e) {
+            throw new IOException("Failed to render document: " + e.getMessage(), e);
+        } finally {
+            if (document.isOpen()) {
+                document.close();
+            }
+        }
+    }
+
+    private static List<String> letterheadLines(Map<String, String> values) {
+        String province = values.get("province");
+        String municipality = values.get("municipality");
+        return Stream.of("Republic of the Philippines",
+                        province.isEmpty() ? null : "Province of " + province,
+                        municipality.isEmpty() ? null : municipality)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static Paragraph paragraph(String text, Font font, int alignment, float spacingAfter) {
+        Paragraph paragraph = new Paragraph(text, font);
+        paragraph.setAlignment(alignment);
+        paragraph.setSpacingAfter(spacingAfter);
+        return paragraph;
+    }
+
+    private static Image qrCode(String content) throws IOException, DocumentException {
+        try {
+            BitMatrix matrix = new QRCodeWriter().encode(content, BarcodeFormat.QR_CODE, QR_SIZE, QR_SIZE,
+                    Map.of(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M, EncodeHintType.MARGIN, 1));
+            Image image = Image.getInstance(MatrixToImageWriter.toBufferedImage(matrix), null);
+            image.scaleAbsolute(QR_SIZE * 0.75f, QR_SIZE * 0.75f);
+            image.setAlignment(Image.ALIGN_LEFT);
+            return image;
+        } catch (WriterException e) {
+            throw new IOException("Failed to encode QR code: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<String, String> values(ServiceRequest request, User official) {
+        Map<String, String> values = new HashMap<>(letterhead);
+        User resident = request.getUser();
+        String firstName = resident != null ? nullToEmpty(resident.getFirstName()) : "";
+        String lastName = resident != null ? nullToEmpty(resident.getLastName()) : "";
+        String address = request.getAddress() != null && !request.getAddress().isBlank() ? request.getAddress()
+                : resident != null ? nullToEmpty(resident.getAddress()) : "";
+        LocalDate today = LocalDate.now();
+
+        values.put("firstName", firstName);
+        values.put("lastName", lastName);
+        values.put("fullName", (firstName + " " + lastName).trim().toUpperCase(Locale.ROOT));
+        values.put("address", address);
+        values.put("purpose", nullToEmpty(request.getPurpose()));
+        values.put("details", nullToEmpty(request.getDetails()));
+        values.put("serviceType", nullToEmpty(request.getServiceType()));
+        values.put("trackingNumber", nullToEmpty(request.getTrackingNumber()));
+        values.put("requestId", String.valueOf(request.getId()));
+        values.put("issuedDate", ordinal(today.getDayOfMonth()) + " day of " + today.format(MONTH_YEAR));
+        values.put("issuedOn", today.format(LONG_DATE));
+        values.put("official", official != null
+                ? (nullToEmpty(official.getFirstName()) + " " + nullToEmpty(official.getLastName())).trim() : "");
+        values.put("officialPosition", official != null ? nullToEmpty(official.getPosition()) : "");
+        return values;
+    }
+
+    static String slug(String serviceType) {
+        if (serviceType == null) {
+            return "";
+        }
+        return serviceType.trim().toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("(^-|-$)", "");
+    }
+
+    private static String ordinal(int day) {
+        if (day >= 11 && day <= 13) {
+            return day + "th";
+        }
+        return switch (day % 10) {
+            case 1 -> day + "st";
+            case 2 -> day + "nd";
+            case 3 -> day + "rd";
+            default -> day + "th";
+        };
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * A template with its text compiled and fonts resolved, shared by every render.
+     */
+    private static final class CompiledTemplate {
+        final TemplateText title;
+        final TemplateText subtitle;
+        final TemplateText salutation;
+        final List<TemplateText> paragraphs;
+        final TemplateText signatoryName;
+        final TemplateText signatoryTitle;
+        final TemplateText footer;
+        final boolean qrCode;
+        final Font regular;
+        final Font heading;
+        final Font titleFont;
+        final Font small;
+
+        CompiledTemplate(DocumentTemplate template, BaseFont regularFont, BaseFont boldFont) {
+            this.title = TemplateText.compile(template.getTitle());
+            this.subtitle = TemplateText.compile(template.getSubtitle());
+            this.salutation = TemplateText.compile(template.getSalutation());
+            this.paragraphs = template.getParagraphs().stream().map(TemplateText::compile).toList();
+            this.signatoryName = TemplateText.compile(template.getSignatoryName());
+            this.signatoryTitle = TemplateText.compile(template.getSignatoryTitle());
+            this.footer = TemplateText.compile(template.getFooter());
+            this.qrCode = template.isQrCode();
+            float size = template.getFontSize();
+            this.regular = new Font(regularFont, size);
+            this.heading = new Font(boldFont, size);
+            this.titleFont = new Font(boldFont, size + 6);
+            this.small = new Font(regularFont, size - 3);
+        }
+    }
+}
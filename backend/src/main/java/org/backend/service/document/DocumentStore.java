@@ -0,0 +1,148 @@
+package org.backend.service.document;
+
+import org.backend.model.StoredDocument;
+import org.backend.repository.StoredDocumentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed store for uploaded documents.
+ *
+ * A file's storage key is the SHA-256 of its bytes plus its extension, and it lives at
+ * {@code <root>/ab/cd/<key>} where ab and cd are the first two byte pairs of the hash, so no
+ * directory grows past a few hundred entries and finding a file is a path computation rather than
+ * a directory scan. Uploading the same bytes twice stores them once. Service requests hold the key,
+ * which is relative to the store root, so the store can move between hosts with the directory.
+ *
+ * Files are never removed: with deduplication another request may share them.
+ */
+@Service
+public class DocumentStore {
+    private static final Logger logger = LoggerFactory.getLogger(DocumentStore.class);
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}(\\.[a-z0-9]{1,10})?");
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,10}");
+
+    private final StoredDocumentRepository storedDocumentRepository;
+    private final Path root;
+
+    public DocumentStore(StoredDocumentRepository storedDocumentRepository,
+                         @Value("${documents.store-dir:${user.dir}/documents/store}") String root) {
+        this.storedDocumentRepository = storedDocumentRepository;
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    public static boolean isKey(String value) {
+        return value != null && KEY.matcher(value).matches();
+    }
+
+    /**
+     * Stream a document into the store, hashing it on the way in.
+     *
+     * @return the metadata of the stored document; for a duplicate, that of the first upload
+     */
+    @Transactional
+    public StoredDocument store(InputStream content, String originalFilename, String contentType) throws IOException {
+        Path incoming = root.resolve("incoming");
+        Files.createDirectories(incoming);
+        Path partial = Files.createTempFile(incoming, "upload-", ".part");
+        try {
+            MessageDigest sha256 = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, sha256)) {
+                size = Files.copy(in, partial, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            String key = hash + extension(originalFilename);
+            Path target = resolve(key);
+
+            if (Files.exists(target)) {
+                logger.info("Document {} already stored; reusing it", key);
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Stored concurrently by an identical upload
+                }
+            }
+
+            StoredDocument document = new StoredDocument(key, hash, size, contentType, originalFilename, LocalDateTime.now());
+            storedDocumentRepository.insertIfAbsent(key, hash, size, contentType, originalFilename, document.getCreatedAt());
+            return storedDocumentRepository.findById(key).orElse(document);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    /**
+     * Copy a file from elsewhere on disk into the store.
+     */
+    @Transactional
+    public StoredDocument importFile(Path file, String contentType) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return store(in, file.getFileName().toString(), contentType);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the key is not a storage key
+     */
+    public Path resolve(String key) {
+        if (!isKey(key)) {
+            throw new IllegalArgumentException("Not a document storage key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    /**
+     * Where a document recorded on a service request lives: a storage key, or a path from before
+     * the store existed, either absolute or relative to the working directory.
+     */
+    public Path locate(String keyOrPath) {
+        if (isKey(keyOrPath)) {
+            return resolve(keyOrPath);
+        }
+        Path path = Paths.get(keyOrPath);
+        return path.isAbsolute() ? path : Paths.get(System.getProperty("user.dir")).resolve(path);
+    }
+
+    public Optional<StoredDocument> describe(String key) {
+        return isKey(key) ? storedDocumentRepository.findById(key) : Optional.empty();
+    }
+
+    private static String extension(String filename) {
+        if (filename == null || filename.lastIndexOf('.') < 0) {
+            return "";
+        }
+        String extension = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(extension).matches() ? "." + extension : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
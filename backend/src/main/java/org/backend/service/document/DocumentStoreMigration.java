@@ -0,0 +1,89 @@
+package org.backend.service.document;
+
+import org.backend.model.StoredDocument;
+import org.backend.repository.ServiceRequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves attachments recorded as absolute or relative file paths into the document store and
+ * rewrites their service requests to hold the storage key.
+ *
+ * Each request is converted in its own transaction and the old files are left where they were, so
+ * the migration can be stopped and rerun at any point; rows whose file is missing are reported and
+ * left as they are.
+ */
+@Service
+public class DocumentStoreMigration {
+    private static final Logger logger = LoggerFactory.getLogger(DocumentStoreMigration.class);
+
+    private final ServiceRequestRepository serviceRequestRepository;
+    private final DocumentStore documentStore;
+    private final TransactionTemplate transactionTemplate;
+
+    public DocumentStoreMigration(ServiceRequestRepository serviceRequestRepository, DocumentStore documentStore,
+                                  PlatformTransactionManager transactionManager) {
+        this.serviceRequestRepository = serviceRequestRepository;
+        this.documentStore = documentStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Map<String, Object> migrate() {
+        List<Object[]> rows = serviceRequestRepository.findLegacyAttachedDocumentPaths();
+        int migrated = 0;
+        int missing = 0;
+        int failed = 0;
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            String attachedPath = (String) row[1];
+            String generatedPath = (String) row[2];
+            Path file = documentStore.locate(attachedPath);
+            if (!Files.isRegularFile(file)) {
+                logger.warn("Attached document of service request {} not found at {}; left unmigrated", id, file);
+                missing++;
+                continue;
+            }
+            try {
+                String key = transactionTemplate.execute(tx -> {
+                    StoredDocument stored;
+                    try {
+                        stored = documentStore.importFile(file, Files.probeContentType(file));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    serviceRequestRepository.replaceAttachedDocumentPath(id, attachedPath, stored.getStorageKey());
+                    // Before certificates were rendered, "generating" pointed the request at its attachment
+                    if (attachedPath.equals(generatedPath)) {
+                        serviceRequestRepository.replaceGeneratedDocumentPath(id, generatedPath, stored.getStorageKey());
+                    }
+                    return stored.getStorageKey();
+                });
+                logger.info("Migrated attached document of service request {}: {} -> {}", id, attachedPath, key);
+                migrated++;
+            } catch (Exception e) {
+                logger.error("Failed to migrate attached document of service request {}: {}", id, e.getMessage(), e);
+                failed++;
+            }
+        }
+        if (!rows.isEmpty()) {
+            logger.info("Document store migration: {} migrated, {} missing, {} failed", migrated, missing, failed);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("migrated", migrated);
+        result.put("missing", missing);
+        result.put("failed", failed);
+        return result;
+    }
+}
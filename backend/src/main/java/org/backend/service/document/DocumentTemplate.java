@@ -0,0 +1,30 @@
+package org.backend.service.document;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A certificate layout as stored in {@code document-templates/<id>.json} on the classpath.
+ *
+ * Text fields may use {@code {{name}}} placeholders; see {@link DocumentGenerationService} for the
+ * names that are filled in. Fonts are either one of the standard PDF fonts (e.g. "Times-Roman") or
+ * a TrueType file given as "classpath:fonts/Name.ttf", which is embedded.
+ */
+@Data
+@NoArgsConstructor
+public class DocumentTemplate {
+    private String title;
+    private String subtitle;
+    private String salutation = "TO WHOM IT MAY CONCERN:";
+    private List<String> paragraphs = new ArrayList<>();
+    private String signatoryName = "{{captain}}";
+    private String signatoryTitle = "Punong Barangay";
+    private String footer;
+    private String font = "Times-Roman";
+    private String boldFont = "Times-Bold";
+    private float fontSize = 12f;
+    private boolean qrCode = true;
+}
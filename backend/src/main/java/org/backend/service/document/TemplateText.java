@@ -0,0 +1,63 @@
+package org.backend.service.document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template string with {@code {{name}}} placeholders, split once into literal and placeholder
+ * parts so rendering is a single pass with no parsing or regex.
+ */
+final class TemplateText {
+    private final List<String> literals;
+    // placeholders.get(i) goes between literals.get(i) and literals.get(i + 1)
+    private final List<String> placeholders;
+    private final int literalLength;
+
+    private TemplateText(List<String> literals, List<String> placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    static TemplateText compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        String text = source != null ? source : "";
+        int from = 0;
+        while (true) {
+            int open = text.indexOf("{{", from);
+            int close = open < 0 ? -1 : text.indexOf("}}", open + 2);
+            if (close < 0) {
+                literals.add(text.substring(from));
+                break;
+            }
+            literals.add(text.substring(from, open));
+            placeholders.add(text.substring(open + 2, close).trim());
+            from = close + 2;
+        }
+        return new TemplateText(List.copyOf(literals), List.copyOf(placeholders));
+    }
+
+    /**
+     * Fill in the placeholders; one without a value renders as nothing.
+     */
+    String render(Map<String, String> values) {
+        if (placeholders.isEmpty()) {
+            return literals.get(0);
+        }
+        StringBuilder out = new StringBuilder(literalLength + 16 * placeholders.size());
+        for (int i = 0; i < placeholders.size(); i++) {
+            out.append(literals.get(i));
+            String value = values.get(placeholders.get(i));
+            if (value != null) {
+                out.append(value);
+            }
+        }
+        return out.append(literals.get(literals.size() - 1)).toString();
+    }
+
+    boolean isEmpty() {
+        return placeholders.isEmpty() && literals.get(0).isBlank();
+    }
+}
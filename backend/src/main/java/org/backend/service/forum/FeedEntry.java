@@ -0,0 +1,130 @@
+package org.backend.service.forum;
+
+import org.backend.model.ForumPost;
+import org.backend.model.User;
+import org.backend.payload.response.ForumPostResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable in-memory snapshot of a feed row. Every change produces a new instance, so readers
+ * can hold on to an entry without locking. The liker ids are kept so likedByMe can be answered
+ * for any viewer without a post_likes lookup.
+ */
+public final class FeedEntry {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String imageUrl;
+    private final String thumbnailUrl;
+    private final ForumPost.ImageStatus imageStatus;
+    private final Long authorId;
+    private final String authorUsername;
+    private final String authorFirstName;
+    private final String authorLastName;
+    private final int likeCount;
+    private final long commentCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Set<Long> likerIds;
+
+    public FeedEntry(Long id, String title, String content, String imageUrl,
+                     String thumbnailUrl, ForumPost.ImageStatus imageStatus, Long authorId, String authorUsername, String authorFirstName, String authorLastName,
+                     int likeCount, long commentCount, LocalDateTime createdAt, LocalDateTime updatedAt,
+                     Set<Long> likerIds) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.imageStatus = imageStatus;
+        this.authorId = authorId;
+        this.authorUsername = authorUsername;
+        this.authorFirstName = authorFirstName;
+        this.authorLastName = authorLastName;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.likerIds = Collections.unmodifiableSet(new HashSet<>(likerIds));
+    }
+
+    public static FeedEntry fromSummary(ForumPostResponse summary, Set<Long> likerIds) {
+        return new FeedEntry(summary.getId(), summary.getTitle(), summary.getContent(), summary.getImageUrl(),
+                summary.getThumbnailUrl(), summary.getImageStatus(), summary.getAuthorId(), summary.getAuthorUsername(), summary.getAuthorFirstName(), summary.getAuthorLastName(),
+                summary.getLikeCount(), summary.getCommentCount(), summary.getCreatedAt(), summary.getUpdatedAt(),
+                likerIds);
+    }
+
+    public static FeedEntry fromNewPost(ForumPost post) {
+        User author = post.getAuthor();
+        return new FeedEntry(post.getId(), post.getTitle(), post.getContent(), post.getImageUrl(),
+                post.getThumbnailUrl(), post.getImageStatus(), author.getId(), author.getUsername(), author.getFirstName(), author.getLastName(),
+                0, 0L, post.getCreatedAt(), post.getUpdatedAt(), Collections.emptySet());
+    }
+
+    public FeedEntry withContent(String title, String content, LocalDateTime updatedAt) {
+        return new FeedEntry(id, title, content, imageUrl, thumbnailUrl, imageStatus, authorId, authorUsername, authorFirstName, authorLastName,
+                likeCount, commentCount, createdAt, updatedAt, likerIds);
+    }
+
+    public FeedEntry withLike(Long userId, boolean liked, int newLikeCount) {
+        Set<Long> likers = new HashSet<>(likerIds);
+        if (liked) {
+            likers.add(userId);
+        } else {
+            likers.remove(userId);
+        }
+        return new FeedEntry(id, title, content, imageUrl, thumbnailUrl, imageStatus,
+                authorId, authorUsername, authorFirstName, authorLastName, newLikeCount, commentCount, createdAt, updatedAt, likers);
+    }
+
+    public FeedEntry withImage(String imageUrl, String thumbnailUrl, ForumPost.ImageStatus imageStatus) {
+        return new FeedEntry(id, title, content, imageUrl, thumbnailUrl, imageStatus,
+                authorId, authorUsername, authorFirstName, authorLastName, likeCount, commentCount, createdAt, updatedAt, likerIds);
+    }
+
+    public FeedEntry withCommentDelta(int delta) {
+        return new FeedEntry(id, title, content, imageUrl, thumbnailUrl, imageStatus,
+                authorId, authorUsername, authorFirstName, authorLastName, likeCount, Math.max(0L, commentCount + delta), createdAt, updatedAt, likerIds);
+    }
+
+    /**
+     * True if this entry sorts after the given keyset position in the newest-first feed order.
+     */
+    public boolean isAfter(LocalDateTime cursorCreatedAt, Long cursorId) {
+        int byTime = createdAt.compareTo(cursorCreatedAt);
+        return byTime < 0 || (byTime == 0 && id < cursorId);
+    }
+
+    public ForumPostResponse toResponse(Long viewerId) {
+        ForumPostResponse response = new ForumPostResponse(id, title, content, imageUrl, thumbnailUrl, imageStatus,
+                authorId, authorUsername, authorFirstName, authorLastName,
+                likeCount, commentCount, createdAt, updatedAt);
+        response.setLikedByMe(viewerId != null && likerIds.contains(viewerId));
+        return response;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getLikeCount() {
+        return likeCount;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Set<Long> getLikerIds() {
+        return likerIds;
+    }
+}
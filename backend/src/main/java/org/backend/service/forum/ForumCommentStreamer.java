@@ -0,0 +1,124 @@
+package org.backend.service.forum;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.backend.payload.response.ForumCommentResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes a post's comments as newline-delimited JSON, a page at a time.
+ *
+ * Comments are read in keyset-ordered pages of (created_at, id), each in its own short read-only
+ * transaction, and a page is written to the client only after its connection has gone back to the
+ * pool. A slow or stalled reader therefore holds a page of comments in memory, never a connection,
+ * and memory stays flat however long the thread is.
+ */
+@Component
+public class ForumCommentStreamer {
+    private static final int PAGE_SIZE = 200;
+
+    private static final String SELECT_SQL =
+            "SELECT c.id, c.post_id, c.content, u.id AS author_id, u.username, u.first_name, u.last_name, " +
+            "c.like_count, c.created_at, c.updated_at, " +
+            "EXISTS (SELECT 1 FROM comment_likes l WHERE l.comment_id = c.id AND l.user_id = ?) AS liked_by_me " +
+            "FROM forum_comments c JOIN users u ON u.id = c.user_id ";
+    private static final String FIRST_PAGE_SQL = SELECT_SQL +
+            "WHERE c.post_id = ? ORDER BY c.created_at, c.id LIMIT ?";
+    private static final String NEXT_PAGE_SQL = SELECT_SQL +
+            "WHERE c.post_id = ? AND (c.created_at, c.id) > (?, ?) ORDER BY c.created_at, c.id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter writer;
+
+    public ForumCommentStreamer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writer = objectMapper.writerFor(ForumCommentResponse.class);
+    }
+
+    /**
+     * Stream every comment of the post, oldest first, one JSON object per line.
+     *
+     * @return the number of comments written
+     */
+    public int stream(Long postId, Long viewerId, OutputStream out) {
+        long viewer = viewerId != null ? viewerId : -1L;
+        int written = 0;
+        List<ForumCommentResponse> page = readPage(FIRST_PAGE_SQL, viewer, postId);
+        while (!page.isEmpty()) {
+            for (ForumCommentResponse comment : page) {
+                write(out, comment);
+            }
+            flush(out);
+            written += page.size();
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            ForumCommentResponse last = page.get(page.size() - 1);
+            page = readPage(NEXT_PAGE_SQL, viewer, postId, Timestamp.valueOf(last.getCreatedAt()), last.getId());
+        }
+        flush(out);
+        return written;
+    }
+
+    private List<ForumCommentResponse> readPage(String sql, Object... args) {
+        Object[] params = Arrays.copyOf(args, args.length + 1);
+        params[args.length] = PAGE_SIZE;
+        List<ForumCommentResponse> page = readOnlyTransaction.execute(status ->
+                jdbcTemplate.query(sql, (rs, rowNum) -> toResponse(rs), params));
+        return page != null ? page : List.of();
+    }
+
+    private ForumCommentResponse toResponse(ResultSet rs) throws SQLException {
+        return new ForumCommentResponse(
+                rs.getLong("id"),
+                rs.getLong("post_id"),
+                rs.getString("content"),
+                rs.getLong("author_id"),
+                rs.getString("username"),
+                rs.getString("first_name"),
+                rs.getString("last_name"),
+                rs.getInt("like_count"),
+                rs.getBoolean("liked_by_me"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private void write(OutputStream out, ForumCommentResponse comment) {
+        try {
+            out.write(writer.writeValueAsBytes(comment));
+            out.write('\n');
+        } catch (IOException e) {
+            // Usually the client went away; stop instead of reading pages nobody will see
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(OutputStream out) {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
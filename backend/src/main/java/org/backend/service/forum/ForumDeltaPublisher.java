@@ -0,0 +1,120 @@
+package org.backend.service.forum;
+
+import org.backend.model.ForumComment;
+import org.backend.payload.response.ForumCommentResponse;
+import org.backend.payload.response.ForumDeltaEvent;
+import org.backend.payload.response.ForumPostResponse;
+import org.backend.service.realtime.RealtimeEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Publishes forum deltas to the STOMP broker: everything goes to {@code /topic/forum}, and
+ * events about one post also go to {@code /topic/forum/posts/{postId}}.
+ *
+ * Creations and deletions are sent as they happen. Like and comment counters are only recorded
+ * and flushed once per window as a single STATS event per post, so a burst of clicks on a
+ * popular post costs one message instead of one per click. ForumServiceImpl calls this after
+ * commit, so subscribers never see a change that was rolled back. Messages are sent by
+ * {@link RealtimeEventPublisher}, off the calling thread.
+ */
+@Component
+public class ForumDeltaPublisher {
+    public static final String FORUM_TOPIC = "/topic/forum";
+    private static final String POST_TOPIC_PREFIX = "/topic/forum/posts/";
+
+    private final RealtimeEventPublisher realtimeEventPublisher;
+    private final ConcurrentMap<Long, PendingStats> pending = new ConcurrentHashMap<>();
+
+    public ForumDeltaPublisher(RealtimeEventPublisher realtimeEventPublisher) {
+        this.realtimeEventPublisher = realtimeEventPublisher;
+    }
+
+    public void postCreated(ForumPostResponse post) {
+        ForumDeltaEvent event = newEvent(ForumDeltaEvent.Type.POST_CREATED, post.getId());
+        event.setPost(post);
+        send(FORUM_TOPIC, event);
+    }
+
+    public void postDeleted(Long postId) {
+        // Counters still waiting for the window would only resurrect the post on clients
+        pending.remove(postId);
+        ForumDeltaEvent event = newEvent(ForumDeltaEvent.Type.POST_DELETED, postId);
+        send(FORUM_TOPIC, event);
+        send(POST_TOPIC_PREFIX + postId, event);
+    }
+
+    public void likeCountChanged(Long postId, int likeCount) {
+        pending.merge(postId, new PendingStats(likeCount, 0), PendingStats::merge);
+    }
+
+    public void commentAdded(ForumComment comment) {
+        Long postId = comment.getPost().getId();
+        ForumDeltaEvent event = newEvent(ForumDeltaEvent.Type.COMMENT_ADDED, postId);
+        event.setCommentId(comment.getId());
+        event.setComment(new ForumCommentResponse(comment.getId(), postId, comment.getContent(),
+                comment.getAuthor().getId(), comment.getAuthor().getUsername(),
+                comment.getAuthor().getFirstName(), comment.getAuthor().getLastName(),
+                comment.getLikeCount(), false, comment.getCreatedAt(), comment.getUpdatedAt()));
+        send(POST_TOPIC_PREFIX + postId, event);
+        pending.merge(postId, new PendingStats(null, 1), PendingStats::merge);
+    }
+
+    public void commentDeleted(Long postId, Long commentId) {
+        ForumDeltaEvent event = newEvent(ForumDeltaEvent.Type.COMMENT_DELETED, postId);
+        event.setCommentId(commentId);
+        send(POST_TOPIC_PREFIX + postId, event);
+        pending.merge(postId, new PendingStats(null, -1), PendingStats::merge);
+    }
+
+    @Scheduled(fixedDelayString = "${forum.realtime.coalesce-window-ms:1000}")
+    public void flush() {
+        for (Long postId : pending.keySet()) {
+            PendingStats stats = pending.remove(postId);
+            if (stats == null) {
+                continue;
+            }
+            ForumDeltaEvent event = newEvent(ForumDeltaEvent.Type.STATS, postId);
+            event.setLikeCount(stats.likeCount);
+            event.setCommentDelta(stats.commentDelta != 0 ? stats.commentDelta : null);
+            if (event.getLikeCount() == null && event.getCommentDelta() == null) {
+                continue;
+            }
+            // No coalescing key: commentDelta is relative, so a newer STATS must not replace an unsent one
+            send(FORUM_TOPIC, event);
+            send(POST_TOPIC_PREFIX + postId, event);
+        }
+    }
+
+    private static ForumDeltaEvent newEvent(ForumDeltaEvent.Type type, Long postId) {
+        ForumDeltaEvent event = new ForumDeltaEvent();
+        event.setType(type);
+        event.setPostId(postId);
+        event.setTimestamp(System.currentTimeMillis());
+        return event;
+    }
+
+    // Deltas are best effort; clients resync from the REST feed on reconnect
+    private void send(String destination, ForumDeltaEvent event) {
+        realtimeEventPublisher.publish(destination, event);
+    }
+
+    private static final class PendingStats {
+        // Absolute count, so only the latest value matters
+        private final Integer likeCount;
+        // Relative, so deltas within the window add up
+        private final int commentDelta;
+
+        private PendingStats(Integer likeCount, int commentDelta) {
+            this.likeCount = likeCount;
+            this.commentDelta = commentDelta;
+        }
+
+        private PendingStats merge(PendingStats newer) {
+            return new PendingStats(newer.likeCount != null ? newer.likeCount : likeCount, commentDelta + newer.commentDelta);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package org.backend.service.forum;
+
+import org.backend.model.ForumPost;
+import org.backend.payload.request.FeedCursor;
+import org.backend.payload.response.CursorPage;
+import org.backend.payload.response.ForumPostResponse;
+import org.backend.repository.ForumPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded cache of the newest forum posts, held as immutable {@link FeedEntry} snapshots.
+ *
+ * Readers work off a volatile, copy-on-write snapshot and never lock. Writers apply changes after
+ * the owning transaction commits, so the cache only ever reflects committed state.
+ *
+ * Edits, image changes and likes that arrive while a load is running are recorded and replayed
+ * onto the loaded snapshot; they carry absolute values, so replaying one the load already saw does
+ * no harm. A comment count change to a loaded post, or a post being created or deleted, cannot be
+ * replayed safely, so the load is discarded (tracked by {@code version}) and retried on a later
+ * read. Readers that waited on a load do not start another one; if it came back empty they fall
+ * back to the database.
+ */
+@Component
+public class ForumFeedCache {
+    private static final Logger logger = LoggerFactory.getLogger(ForumFeedCache.class);
+
+    private final ForumPostRepository postRepository;
+    private final int capacity;
+
+    private final Object loadLock = new Object();
+    private volatile Snapshot snapshot;
+    private long version;
+    // Non-null only while a load is running
+    private List<PendingWrite> writesDuringLoad;
+    private Set<Long> recountedDuringLoad;
+    // Guarded by loadLock; read without it to tell whether a load finished while we waited
+    private volatile long loadAttempts;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+
+    public ForumFeedCache(ForumPostRepository postRepository,
+                          @Value("${forum.feed-cache.capacity:50}") int capacity) {
+        this.postRepository = postRepository;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Serve a cursor page from the cache, or empty if the page reaches past the cached prefix.
+     */
+    public Optional<CursorPage<ForumPostResponse>> readFeed(FeedCursor after, int size, Long viewerId) {
+        Snapshot current = ensureLoaded();
+        if (current == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        List<FeedEntry> entries = current.entries;
+        int start = 0;
+        if (after != null) {
+            while (start < entries.size() && !entries.get(start).isAfter(after.getCreatedAt(), after.getId())) {
+                start++;
+            }
+        }
+
+        int available = entries.size() - start;
+        boolean hasNext;
+        if (available > size) {
+            hasNext = true;
+        } else if (current.isComplete()) {
+            hasNext = false;
+        } else {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        List<FeedEntry> pageEntries = entries.subList(start, start + Math.min(size, available));
+        List<ForumPostResponse> content = pageEntries.stream()
+                .map(entry -> entry.toResponse(viewerId))
+                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            FeedEntry last = pageEntries.get(pageEntries.size() - 1);
+            nextCursor = new FeedCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        hits.incrementAndGet();
+        return Optional.of(new CursorPage<>(content, nextCursor, hasNext, content.size()));
+    }
+
+    /**
+     * Serve a page/size request from the cache, or empty if the page is not fully cached.
+     */
+    public Optional<Page<ForumPostResponse>> readPage(Pageable pageable, Long viewerId) {
+        Snapshot current = ensureLoaded();
+        if (current == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        long offset = pageable.getOffset();
+        long end = offset + pageable.getPageSize();
+        if (end > current.entries.size() && !current.isComplete()) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        int from = (int) Math.min(offset, current.entries.size());
+        int to = (int) Math.min(end, current.entries.size());
+        List<ForumPostResponse> content = current.entries.subList(from, to).stream()
+                .map(entry -> entry.toResponse(viewerId))
+                .collect(Collectors.toList());
+        hits.incrementAndGet();
+        return Optional.of(new PageImpl<>(content, pageable, current.totalPosts));
+    }
+
+    public synchronized void onPostCreated(FeedEntry entry) {
+        version++;
+        Snapshot current = snapshot;
+        if (current == null || current.entries.stream().anyMatch(existing -> existing.getId().equals(entry.getId()))) {
+            return;
+        }
+        List<FeedEntry> entries = new ArrayList<>(current.entries.size() + 1);
+        entries.add(entry);
+        entries.addAll(current.entries);
+        if (entries.size() > capacity) {
+            entries.remove(entries.size() - 1);
+            evictions.incrementAndGet();
+        }
+        snapshot = new Snapshot(entries, current.totalPosts + 1);
+    }
+
+    public synchronized void onPostUpdated(Long postId, String title, String content, LocalDateTime updatedAt) {
+        replaceEntry(postId, entry -> entry.withContent(title, content, updatedAt));
+    }
+
+    public synchronized void onPostImageChanged(Long postId, String imageUrl, String thumbnailUrl, ForumPost.ImageStatus status) {
+        replaceEntry(postId, entry -> entry.withImage(imageUrl, thumbnailUrl, status));
+    }
+
+    public synchronized void onPostLikeChanged(Long postId, Long userId, boolean liked, int likeCount) {
+        replaceEntry(postId, entry -> entry.withLike(userId, liked, likeCount));
+    }
+
+    public synchronized void onCommentCountChanged(Long postId, int delta) {
+        if (snapshot == null && recountedDuringLoad != null) {
+            // A delta cannot be replayed without knowing whether the load already counted it
+            recountedDuringLoad.add(postId);
+            return;
+        }
+        replaceEntry(postId, entry -> entry.withCommentDelta(delta));
+    }
+
+    public synchronized void onPostDeleted(Long postId) {
+        version++;
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        List<FeedEntry> entries = current.entries.stream()
+                .filter(entry -> !entry.getId().equals(postId))
+                .collect(Collectors.toList());
+        boolean wasCached = entries.size() < current.entries.size();
+        if (!wasCached && current.isComplete()) {
+            return;
+        }
+        Snapshot next = new Snapshot(entries, Math.max(0, current.totalPosts - 1));
+        // Below half capacity the cached prefix is too short to be useful; reload it on the next read
+        snapshot = (!next.isComplete() && entries.size() < capacity / 2) ? null : next;
+    }
+
+    public synchronized void invalidate() {
+        version++;
+        snapshot = null;
+    }
+
+    public Map<String, Object> getStats() {
+        Snapshot current = snapshot;
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("capacity", capacity);
+        stats.put("size", current != null ? current.entries.size() : 0);
+        stats.put("loaded", current != null);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("evictions", evictions.get());
+        stats.put("loads", loads.get());
+        return stats;
+    }
+
+    private void replaceEntry(Long postId, UnaryOperator<FeedEntry> change) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            if (writesDuringLoad != null) {
+                writesDuringLoad.add(new PendingWrite(postId, change));
+            }
+            return;
+        }
+        snapshot = apply(current, postId, change);
+    }
+
+    private static Snapshot apply(Snapshot current, Long postId, UnaryOperator<FeedEntry> change) {
+        List<FeedEntry> entries = new ArrayList<>(current.entries);
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).getId().equals(postId)) {
+                entries.set(i, change.apply(entries.get(i)));
+                return new Snapshot(entries, current.totalPosts);
+            }
+        }
+        return current;
+    }
+
+    private Snapshot ensureLoaded() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        long attemptsSeen = loadAttempts;
+        // One loader at a time so a cold cache does not send every concurrent reader to the database
+        synchronized (loadLock) {
+            if (loadAttempts != attemptsSeen) {
+                // A load finished while we waited; whatever it left is the answer for this read
+                return snapshot;
+            }
+            loadAttempts++;
+            long loadVersion;
+            synchronized (this) {
+                if (snapshot != null) {
+                    return snapshot;
+                }
+                loadVersion = version;
+                writesDuringLoad = new ArrayList<>();
+                recountedDuringLoad = new HashSet<>();
+            }
+
+            try {
+                long totalPosts = postRepository.count();
+                List<ForumPostResponse> summaries = postRepository.findFeedSummaries(PageRequest.of(0, capacity)).getContent();
+                Map<Long, Set<Long>> likers = loadLikers(summaries);
+
+                List<FeedEntry> entries = summaries.stream()
+                        .map(summary -> FeedEntry.fromSummary(summary, likers.getOrDefault(summary.getId(), Collections.emptySet())))
+                        .collect(Collectors.toList());
+                Snapshot loaded = new Snapshot(entries, totalPosts);
+
+                synchronized (this) {
+                    if (version != loadVersion
+                            || entries.stream().anyMatch(entry -> recountedDuringLoad.contains(entry.getId()))) {
+                        // A write landed while we were reading that cannot be replayed onto our view
+                        return null;
+                    }
+                    for (PendingWrite write : writesDuringLoad) {
+                        loaded = apply(loaded, write.postId(), write.change());
+                    }
+                    snapshot = loaded;
+                    loads.incrementAndGet();
+                    return loaded;
+                }
+            } catch (Exception e) {
+                logger.error("Failed to load forum feed cache: {}", e.getMessage(), e);
+                return null;
+            } finally {
+                synchronized (this) {
+                    writesDuringLoad = null;
+                    recountedDuringLoad = null;
+                }
+            }
+        }
+    }
+
+    private Map<Long, Set<Long>> loadLikers(List<ForumPostResponse> summaries) {
+        if (summaries.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> postIds = summaries.stream().map(ForumPostResponse::getId).collect(Collectors.toList());
+        Map<Long, Set<Long>> likers = new HashMap<>();
+        for (Object[] row : postRepository.findLikesForPosts(postIds)) {
+            Long postId = ((Number) row[0]).longValue();
+            Long userId = ((Number) row[1]).longValue();
+            likers.computeIfAbsent(postId, id -> new HashSet<>()).add(userId);
+        }
+        return likers;
+    }
+
+    private record PendingWrite(Long postId, UnaryOperator<FeedEntry> change) {
+    }
+
+    private static final class Snapshot {
+        private final List<FeedEntry> entries;
+        private final long totalPosts;
+
+        private Snapshot(List<FeedEntry> entries, long totalPosts) {
+            this.entries = Collections.unmodifiableList(entries);
+            this.totalPosts = totalPosts;
+        }
+
+        // The cache holds every post, so running off its end means the feed is exhausted
+        private boolean isComplete() {
+            return entries.size() >= totalPosts;
+        }
+    }
+}
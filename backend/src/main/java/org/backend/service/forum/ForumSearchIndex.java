@@ -0,0 +1,437 @@
+package org.backend.service.forum;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Embedded inverted index over forum post titles/contents and comment contents, ranked with BM25.
+ *
+ * Kept entirely in memory behind a read/write lock. The postings are persisted to a local snapshot
+ * so a restart only has to catch up on what changed instead of re-reading every row; see
+ * {@link ForumSearchService} for loading, rebuilding and catching up against the database.
+ */
+@Component
+public class ForumSearchIndex {
+    public enum DocType { POST, COMMENT }
+
+    private static final int MAGIC = 0x46534958; // "FSIX"
+    private static final int FORMAT_VERSION = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // A term in a post title counts as much as this many occurrences in the body
+    private static final int TITLE_BOOST = 3;
+    private static final int MAX_QUERY_TERMS = 10;
+
+    private final Path snapshotPath;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+
+    private IndexState state = new IndexState();
+    // Non-null while a rebuild is running; writes are recorded here and replayed onto the new state
+    private List<Consumer<IndexState>> pendingDuringRebuild;
+    private volatile boolean dirty;
+
+    public ForumSearchIndex(@Value("${forum.search.index-path:./search-index/forum.idx}") String snapshotPath) {
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+
+    public void indexPost(Long postId, String title, String content) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        ForumTextAnalyzer.analyze(title).forEach(term -> termFreqs.merge(term, TITLE_BOOST, Integer::sum));
+        ForumTextAnalyzer.analyze(content).forEach(term -> termFreqs.merge(term, 1, Integer::sum));
+        write(s -> s.put(DocType.POST, postId, postId, termFreqs));
+    }
+
+    public void indexComment(Long commentId, Long postId, String content) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        ForumTextAnalyzer.analyze(content).forEach(term -> termFreqs.merge(term, 1, Integer::sum));
+        write(s -> s.put(DocType.COMMENT, commentId, postId, termFreqs));
+    }
+
+    /**
+     * Remove a post together with every comment indexed under it.
+     */
+    public void removePost(Long postId) {
+        write(s -> s.removePost(postId));
+    }
+
+    public void removeComment(Long commentId) {
+        write(s -> s.remove(DocType.COMMENT, commentId));
+    }
+
+    public Result search(String query, DocType typeFilter, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(ForumTextAnalyzer.analyze(query)));
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+        if (terms.isEmpty() || limit <= 0) {
+            return new Result(0, Collections.emptyList());
+        }
+
+        lock.readLock().lock();
+        try {
+            IndexState s = state;
+            int docCount = s.docs.size();
+            if (docCount == 0) {
+                return new Result(0, Collections.emptyList());
+            }
+            double avgLength = (double) s.totalLength / docCount;
+
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Integer, Integer> postings = s.postings.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - postings.size() + 0.5) / (postings.size() + 0.5));
+                for (Map.Entry<Integer, Integer> posting : postings.entrySet()) {
+                    IndexedDoc doc = s.docs.get(posting.getKey());
+                    if (typeFilter != null && doc.type != typeFilter) {
+                        continue;
+                    }
+                    int tf = posting.getValue();
+                    double norm = K1 * (1 - B + B * doc.length / avgLength);
+                    scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+
+            // Keep only the best offset+limit hits instead of sorting every match
+            int window = offset + limit;
+            Comparator<Map.Entry<Integer, Double>> byScore = Map.Entry.comparingByValue();
+            PriorityQueue<Map.Entry<Integer, Double>> top = new PriorityQueue<>(window + 1, byScore);
+            for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > window) {
+                    top.poll();
+                }
+            }
+
+            List<Map.Entry<Integer, Double>> ranked = new ArrayList<>(top);
+            ranked.sort(byScore.reversed());
+            List<Hit> hits = new ArrayList<>();
+            for (int i = offset; i < ranked.size(); i++) {
+                IndexedDoc doc = s.docs.get(ranked.get(i).getKey());
+                hits.add(new Hit(doc.type, doc.entityId, doc.postId, ranked.get(i).getValue()));
+            }
+            return new Result(scores.size(), hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<Long> indexedIds(DocType type) {
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = new HashSet<>();
+            state.docs.values().stream().filter(doc -> doc.type == type).forEach(doc -> ids.add(doc.entityId));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return state.postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Replace the whole index with what {@code loader} feeds into the given builder. The live index
+     * keeps serving searches meanwhile, and writes that land during the rebuild are replayed on top.
+     */
+    public void rebuild(Consumer<ForumSearchIndex> loader) {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            ForumSearchIndex builder = new ForumSearchIndex(snapshotPath.toString());
+            boolean completed = false;
+            try {
+                loader.accept(builder);
+                completed = true;
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    List<Consumer<IndexState>> pending = pendingDuringRebuild;
+                    pendingDuringRebuild = null;
+                    // A failed rebuild leaves the live index untouched; it already has the pending writes
+                    if (completed) {
+                        IndexState rebuilt = builder.state;
+                        pending.forEach(change -> change.accept(rebuilt));
+                        state = rebuilt;
+                        dirty = true;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the index to the snapshot file. The file is replaced atomically so a crash mid-write
+     * leaves the previous snapshot intact.
+     */
+    public void save(long savedAtEpochMillis) throws IOException {
+        Path parent = snapshotPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+
+        lock.readLock().lock();
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(savedAtEpochMillis);
+                out.writeInt(state.docs.size());
+                for (IndexedDoc doc : state.docs.values()) {
+                    out.writeByte(doc.type.ordinal());
+                    out.writeLong(doc.entityId);
+                    out.writeLong(doc.postId);
+                    out.writeInt(doc.termFreqs.size());
+                    for (Map.Entry<String, Integer> term : doc.termFreqs.entrySet()) {
+                        out.writeUTF(term.getKey());
+                        out.writeInt(term.getValue());
+                    }
+                }
+            }
+            dirty = false;
+        } finally {
+            lock.readLock().unlock();
+        }
+        try {
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Load the snapshot file, replacing the in-memory index.
+     *
+     * @return the time the snapshot was saved, or -1 if there is no usable snapshot
+     */
+    public long load() throws IOException {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return -1;
+        }
+
+        IndexState loaded = new IndexState();
+        long savedAt;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return -1;
+            }
+            savedAt = in.readLong();
+            int docCount = in.readInt();
+            DocType[] types = DocType.values();
+            for (int i = 0; i < docCount; i++) {
+                DocType type = types[in.readByte()];
+                long entityId = in.readLong();
+                long postId = in.readLong();
+                int termCount = in.readInt();
+                Map<String, Integer> termFreqs = new HashMap<>(termCount * 2);
+                for (int t = 0; t < termCount; t++) {
+                    termFreqs.put(in.readUTF(), in.readInt());
+                }
+                loaded.put(type, entityId, postId, termFreqs);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            state = loaded;
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return savedAt;
+    }
+
+    private void write(Consumer<IndexState> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String key(DocType type, Long entityId) {
+        return (type == DocType.POST ? "P" : "C") + entityId;
+    }
+
+    public static final class Hit {
+        private final DocType type;
+        private final Long id;
+        private final Long postId;
+        private final double score;
+
+        private Hit(DocType type, Long id, Long postId, double score) {
+            this.type = type;
+            this.id = id;
+            this.postId = postId;
+            this.score = score;
+        }
+
+        public DocType getType() {
+            return type;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public Long getPostId() {
+            return postId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    public static final class Result {
+        private final long totalHits;
+        private final List<Hit> hits;
+
+        private Result(long totalHits, List<Hit> hits) {
+            this.totalHits = totalHits;
+            this.hits = hits;
+        }
+
+        public long getTotalHits() {
+            return totalHits;
+        }
+
+        public List<Hit> getHits() {
+            return hits;
+        }
+    }
+
+    private static final class IndexedDoc {
+        private final DocType type;
+        private final long entityId;
+        private final long postId;
+        private final int length;
+        // Kept per document so an update or delete can find its postings without a full scan
+        private final Map<String, Integer> termFreqs;
+
+        private IndexedDoc(DocType type, long entityId, long postId, Map<String, Integer> termFreqs) {
+            this.type = type;
+            this.entityId = entityId;
+            this.postId = postId;
+            this.termFreqs = termFreqs;
+            this.length = termFreqs.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    private static final class IndexState {
+        private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+        private final Map<Integer, IndexedDoc> docs = new HashMap<>();
+        private final Map<String, Integer> docIdsByKey = new HashMap<>();
+        private final Map<Long, Set<Integer>> commentDocsByPost = new HashMap<>();
+        private int nextDocId;
+        private long totalLength;
+
+        private void put(DocType type, long entityId, long postId, Map<String, Integer> termFreqs) {
+            remove(type, entityId);
+
+            int docId = nextDocId++;
+            IndexedDoc doc = new IndexedDoc(type, entityId, postId, termFreqs);
+            docs.put(docId, doc);
+            docIdsByKey.put(key(type, entityId), docId);
+            if (type == DocType.COMMENT) {
+                commentDocsByPost.computeIfAbsent(postId, id -> new HashSet<>()).add(docId);
+            }
+            termFreqs.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(docId, tf));
+            totalLength += doc.length;
+        }
+
+        private void remove(DocType type, long entityId) {
+            Integer docId = docIdsByKey.remove(key(type, entityId));
+            if (docId == null) {
+                return;
+            }
+            IndexedDoc doc = docs.remove(docId);
+            for (String term : doc.termFreqs.keySet()) {
+                Map<Integer, Integer> termPostings = postings.get(term);
+                termPostings.remove(docId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            if (type == DocType.COMMENT) {
+                Set<Integer> siblings = commentDocsByPost.get(doc.postId);
+                if (siblings != null) {
+                    siblings.remove(docId);
+                    if (siblings.isEmpty()) {
+                        commentDocsByPost.remove(doc.postId);
+                    }
+                }
+            }
+            totalLength -= doc.length;
+        }
+
+        private void removePost(long postId) {
+            remove(DocType.POST, postId);
+            Set<Integer> commentDocIds = commentDocsByPost.get(postId);
+            if (commentDocIds == null) {
+                return;
+            }
+            for (Integer docId : new ArrayList<>(commentDocIds)) {
+                remove(DocType.COMMENT, docs.get(docId).entityId);
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package org.backend.service.forum;
+
+import jakarta.annotation.PreDestroy;
+import org.backend.payload.response.ForumSearchResult;
+import org.backend.repository.ForumCommentRepository;
+import org.backend.repository.ForumPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@link ForumSearchIndex} in step with the database and answers search requests from it.
+ * Incremental updates come from ForumServiceImpl after each commit; this class handles the
+ * snapshot on startup/shutdown, the catch-up after a restart and full rebuilds.
+ */
+@Service
+public class ForumSearchService {
+    private static final Logger logger = LoggerFactory.getLogger(ForumSearchService.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 50;
+    // Deep pages of a relevance ranking are never useful and cost a larger top-k heap
+    private static final int MAX_RESULT_WINDOW = 1000;
+    private static final int SNIPPET_LENGTH = 160;
+    // Covers clock skew and transactions that committed just before the snapshot was written
+    private static final long CATCH_UP_SLACK_MINUTES = 5;
+
+    private final ForumSearchIndex index;
+    private final ForumPostRepository postRepository;
+    private final ForumCommentRepository commentRepository;
+    // Nothing is written back to disk until the index has been loaded or rebuilt once
+    private volatile boolean initialized;
+
+    public ForumSearchService(ForumSearchIndex index, ForumPostRepository postRepository,
+                              ForumCommentRepository commentRepository) {
+        this.index = index;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    /**
+     * Load the local snapshot and catch up on changes since it was written, or rebuild from the
+     * database when there is no usable snapshot.
+     */
+    public void initialize() {
+        long savedAt;
+        try {
+            savedAt = index.load();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Forum search snapshot could not be read, rebuilding: {}", e.getMessage());
+            savedAt = -1;
+        }
+
+        if (savedAt < 0) {
+            rebuild();
+            return;
+        }
+
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(savedAt), ZoneId.systemDefault())
+                .minusMinutes(CATCH_UP_SLACK_MINUTES);
+        catchUp(since);
+        initialized = true;
+        flush();
+    }
+
+    public Map<String, Object> rebuild() {
+        long started = System.currentTimeMillis();
+        index.rebuild(builder -> {
+            long lastId = 0L;
+            List<Object[]> rows;
+            do {
+                rows = postRepository.findSearchRowsAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+                for (Object[] row : rows) {
+                    builder.indexPost((Long) row[0], (String) row[1], (String) row[2]);
+                    lastId = (Long) row[0];
+                }
+            } while (rows.size() == BATCH_SIZE);
+
+            lastId = 0L;
+            do {
+                rows = commentRepository.findSearchRowsAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+                for (Object[] row : rows) {
+                    builder.indexComment((Long) row[0], (Long) row[1], (String) row[2]);
+                    lastId = (Long) row[0];
+                }
+            } while (rows.size() == BATCH_SIZE);
+        });
+        logger.info("Rebuilt forum search index: {} documents in {} ms", index.size(), System.currentTimeMillis() - started);
+        initialized = true;
+        flush();
+        return getStats();
+    }
+
+    @Scheduled(fixedDelayString = "${forum.search.flush-interval-ms:60000}")
+    public void flushIfDirty() {
+        if (index.isDirty()) {
+            flush();
+        }
+    }
+
+    @PreDestroy
+    public void flush() {
+        if (!initialized) {
+            return;
+        }
+        try {
+            index.save(System.currentTimeMillis());
+        } catch (IOException e) {
+            logger.error("Failed to write forum search snapshot: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Ranked search over posts and comments.
+     *
+     * @param type "posts", "comments" or null/anything else for both
+     */
+    public Page<ForumSearchResult> search(String query, String type, Pageable pageable) {
+        int size = Math.max(1, Math.min(pageable.getPageSize(), MAX_PAGE_SIZE));
+        int offset = (int) Math.min(pageable.getOffset(), MAX_RESULT_WINDOW);
+        Pageable page = PageRequest.of(offset / size, size);
+
+        ForumSearchIndex.Result result = index.search(query, parseType(type), offset, Math.min(size, MAX_RESULT_WINDOW - offset));
+        List<ForumSearchIndex.Hit> hits = result.getHits();
+
+        Set<Long> postIds = new HashSet<>();
+        Set<Long> commentIds = new HashSet<>();
+        for (ForumSearchIndex.Hit hit : hits) {
+            (hit.getType() == ForumSearchIndex.DocType.POST ? postIds : commentIds).add(hit.getId());
+        }
+
+        // Two lookups per page however many hits it has
+        Map<Long, Object[]> posts = postIds.isEmpty() ? Map.of() : postRepository.findSearchHitDetails(postIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> row));
+        Map<Long, Object[]> comments = commentIds.isEmpty() ? Map.of() : commentRepository.findSearchHitDetails(commentIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> row));
+
+        List<ForumSearchResult> content = new ArrayList<>();
+        for (ForumSearchIndex.Hit hit : hits) {
+            if (hit.getType() == ForumSearchIndex.DocType.POST) {
+                Object[] row = posts.get(hit.getId());
+                if (row != null) {
+                    content.add(new ForumSearchResult("POST", hit.getId(), hit.getId(), (String) row[1],
+                            snippet((String) row[2], query), (String) row[3], (LocalDateTime) row[4], hit.getScore()));
+                }
+            } else {
+                Object[] row = comments.get(hit.getId());
+                if (row != null) {
+                    content.add(new ForumSearchResult("COMMENT", hit.getId(), (Long) row[1], (String) row[2],
+                            snippet((String) row[3], query), (String) row[4], (LocalDateTime) row[5], hit.getScore()));
+                }
+            }
+        }
+
+        return new PageImpl<>(content, page, Math.min(result.getTotalHits(), MAX_RESULT_WINDOW));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("documents", index.size());
+        stats.put("terms", index.termCount());
+        stats.put("initialized", initialized);
+        stats.put("dirty", index.isDirty());
+        return stats;
+    }
+
+    private void catchUp(LocalDateTime since) {
+        long started = System.currentTimeMillis();
+
+        Set<Long> postIds = new HashSet<>(postRepository.findAllIds());
+        Set<Long> stalePosts = new HashSet<>(postRepository.findIdsUpdatedSince(since));
+        Set<Long> indexedPosts = index.indexedIds(ForumSearchIndex.DocType.POST);
+        for (Long id : postIds) {
+            if (!indexedPosts.contains(id)) {
+                stalePosts.add(id);
+            }
+        }
+        indexedPosts.stream().filter(id -> !postIds.contains(id)).forEach(index::removePost);
+        forEachBatch(stalePosts, batch -> postRepository.findSearchRowsByIds(batch)
+                .forEach(row -> index.indexPost((Long) row[0], (String) row[1], (String) row[2])));
+
+        Set<Long> commentIds = new HashSet<>(commentRepository.findAllIds());
+        Set<Long> staleComments = new HashSet<>(commentRepository.findIdsUpdatedSince(since));
+        Set<Long> indexedComments = index.indexedIds(ForumSearchIndex.DocType.COMMENT);
+        for (Long id : commentIds) {
+            if (!indexedComments.contains(id)) {
+                staleComments.add(id);
+            }
+        }
+        indexedComments.stream().filter(id -> !commentIds.contains(id)).forEach(index::removeComment);
+        forEachBatch(staleComments, batch -> commentRepository.findSearchRowsByIds(batch)
+                .forEach(row -> index.indexComment((Long) row[0], (Long) row[1], (String) row[2])));
+
+        logger.info("Forum search index caught up: {} posts and {} comments reindexed in {} ms",
+                stalePosts.size(), staleComments.size(), System.currentTimeMillis() - started);
+    }
+
+    private static void forEachBatch(Set<Long> ids, Consumer<List<Long>> action) {
+        List<Long> all = new ArrayList<>(ids);
+        for (int from = 0; from < all.size(); from += BATCH_SIZE) {
+            action.accept(all.subList(from, Math.min(from + BATCH_SIZE, all.size())));
+        }
+    }
+
+    private static ForumSearchIndex.DocType parseType(String type) {
+        if ("posts".equalsIgnoreCase(type)) {
+            return ForumSearchIndex.DocType.POST;
+        }
+        if ("comments".equalsIgnoreCase(type)) {
+            return ForumSearchIndex.DocType.COMMENT;
+        }
+        return null;
+    }
+
+    // Window of text around the first query word that appears literally, falling back to the start
+    private static String snippet(String text, String query) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int match = -1;
+        for (String word : query.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (word.length() < 2) {
+                continue;
+            }
+            int found = lower.indexOf(word);
+            if (found >= 0 && (match < 0 || found < match)) {
+                match = found;
+            }
+        }
+
+        int start = match < 0 ? 0 : Math.max(0, match - SNIPPET_LENGTH / 4);
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        return (start > 0 ? "..." : "") + text.substring(start, end).trim() + (end < text.length() ? "..." : "");
+    }
+}
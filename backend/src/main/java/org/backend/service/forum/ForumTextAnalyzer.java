@@ -0,0 +1,69 @@
+package org.backend.service.forum;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns forum text into index terms. Residents post in English, Filipino and a mix of both, so
+ * the analyzer stays deliberately light: fold case and diacritics (ñ matches n), split on anything
+ * that is not a letter or digit (so "mag-aral" yields "mag" and "aral"), drop stopwords from both
+ * languages and strip simple English plurals. The same analysis runs at index and query time.
+ */
+public final class ForumTextAnalyzer {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOPWORDS = Set.of(
+            // English
+            "a", "an", "and", "are", "as", "at", "be", "been", "but", "by", "do", "does", "for", "from",
+            "had", "has", "have", "he", "her", "his", "i", "if", "in", "into", "is", "it", "its", "me",
+            "my", "no", "not", "of", "on", "or", "our", "she", "so", "that", "the", "their", "them",
+            "then", "there", "these", "they", "this", "to", "was", "we", "were", "what", "when", "which",
+            "who", "will", "with", "you", "your",
+            // Filipino
+            "ako", "akin", "amin", "ang", "ano", "ay", "ba", "daw", "din", "raw", "rin", "ito",
+            "iyan", "iyon", "ka", "kami", "kay", "kaya", "ko", "kung", "lang", "lamang", "mga", "mo",
+            "na", "naman", "namin", "nang", "ng", "ni", "nila", "nito", "niya", "nya", "pa", "po",
+            "opo", "sa", "si", "sila", "siya", "sya", "tayo", "yung", "yan", "yun"
+    );
+
+    private ForumTextAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String token : SEPARATORS.split(folded)) {
+            if (token.length() < MIN_TERM_LENGTH || token.length() > MAX_TERM_LENGTH || STOPWORDS.contains(token)) {
+                continue;
+            }
+            terms.add(stem(token));
+        }
+        return terms;
+    }
+
+    // Only plural stripping: suffix rules like -ing/-ed would mangle Filipino words ("daing", "sinigang")
+    static String stem(String term) {
+        if (term.length() <= 3 || Character.isDigit(term.charAt(term.length() - 1))) {
+            return term;
+        }
+        if (term.endsWith("ies") && term.length() > 4) {
+            return term.substring(0, term.length() - 3) + "y";
+        }
+        if (term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us") && !term.endsWith("is")) {
+            return term.substring(0, term.length() - 1);
+        }
+        return term;
+    }
+}
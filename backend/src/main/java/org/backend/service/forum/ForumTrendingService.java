@@ -0,0 +1,305 @@
+package org.backend.service.forum;
+
+import jakarta.annotation.PreDestroy;
+import org.backend.model.ForumPost;
+import org.backend.model.ForumTrendingScore;
+import org.backend.payload.response.ForumPostResponse;
+import org.backend.repository.ForumPostRepository;
+import org.backend.repository.ForumTrendingScoreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Trending view of the forum: posts ranked by time-decayed likes, comments and recency.
+ *
+ * ForumServiceImpl reports each like, comment and new post after commit; those feed a
+ * {@link TrendingRanker} and keep {@link FeedEntry} snapshots of the ranked posts current, so a
+ * trending request is answered from memory. The database is only read when a post the service
+ * has no snapshot for climbs into the top, and the scores are checkpointed to
+ * forum_trending_scores periodically and on shutdown so a restart picks up where it left off.
+ */
+@Service
+public class ForumTrendingService {
+    private static final Logger logger = LoggerFactory.getLogger(ForumTrendingService.class);
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final double POST_WEIGHT = 2.0;
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 3.0;
+    // Below this a post has had no engagement for many half-lives and is no longer worth tracking
+    private static final double MIN_SCORE = 0.01;
+    private static final int SEED_DAYS = 7;
+
+    // Plain JDBC batch: through JPA the assigned ids make saveAll merge, a SELECT per row first
+    private static final String INSERT_SQL =
+            "INSERT INTO forum_trending_scores (post_id, score, scored_at) VALUES (?, ?, ?)";
+
+    private final ForumPostRepository postRepository;
+    private final ForumTrendingScoreRepository scoreRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long halfLifeMillis;
+
+    private final TrendingRanker ranker;
+    // Snapshots of posts in the top MAX_LIMIT; anything else is dropped at the next checkpoint
+    private final Map<Long, FeedEntry> entries = new HashMap<>();
+    // When each like seen by this instance was added, so an unlike retracts exactly what it added
+    private final Map<Long, Map<Long, Long>> likedAt = new HashMap<>();
+    // When a restored or seeded post's earlier likes were counted; unlikes of those retract at that time
+    private final Map<Long, Long> countedAt = new HashMap<>();
+    private long version;
+    private boolean dirty;
+    // Nothing is checkpointed until the previous checkpoint has been read back
+    private volatile boolean initialized;
+
+    public ForumTrendingService(ForumPostRepository postRepository,
+                                ForumTrendingScoreRepository scoreRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${forum.trending.half-life-hours:24}") long halfLifeHours,
+                                @Value("${forum.trending.max-tracked:2000}") int maxTracked) {
+        this.postRepository = postRepository;
+        this.scoreRepository = scoreRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.halfLifeMillis = halfLifeHours * 3_600_000L;
+        this.ranker = new TrendingRanker(halfLifeMillis, maxTracked, System.currentTimeMillis());
+    }
+
+    /**
+     * Restore the ranking from the last checkpoint, or seed it from the last week of posts when
+     * there is none. Events that arrived before this ran are kept.
+     */
+    public void initialize() {
+        List<ForumTrendingScore> checkpoint = scoreRepository.findAll();
+        if (checkpoint.isEmpty()) {
+            seed();
+        } else {
+            synchronized (this) {
+                for (ForumTrendingScore row : checkpoint) {
+                    long scoredAt = toMillis(row.getScoredAt());
+                    ranker.add(row.getPostId(), row.getScore(), scoredAt);
+                    countedAt.putIfAbsent(row.getPostId(), scoredAt);
+                }
+                version++;
+            }
+            logger.info("Restored {} trending scores from checkpoint", checkpoint.size());
+        }
+        initialized = true;
+    }
+
+    private void seed() {
+        // Without event history, engagement is assumed to have happened when the post was created
+        List<Object[]> rows = postRepository.findTrendingSeedRows(LocalDateTime.now().minusDays(SEED_DAYS));
+        synchronized (this) {
+            for (Object[] row : rows) {
+                double weight = POST_WEIGHT + ((Number) row[2]).doubleValue() * LIKE_WEIGHT
+                        + ((Number) row[3]).doubleValue() * COMMENT_WEIGHT;
+                long createdAt = toMillis((LocalDateTime) row[1]);
+                ranker.add((Long) row[0], weight, createdAt);
+                countedAt.putIfAbsent((Long) row[0], createdAt);
+            }
+            version++;
+            dirty = true;
+        }
+        logger.info("Seeded trending scores for {} recent posts", rows.size());
+    }
+
+    public List<ForumPostResponse> getTrending(int limit, Long viewerId) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<Long> ids;
+        List<FeedEntry> found;
+        long loadVersion;
+        synchronized (this) {
+            ids = ranker.top(size);
+            found = ids.stream().map(entries::get).collect(Collectors.toList());
+            loadVersion = version;
+        }
+        if (!found.contains(null)) {
+            return found.stream().map(entry -> entry.toResponse(viewerId)).collect(Collectors.toList());
+        }
+
+        Set<Long> missing = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (found.get(i) == null) {
+                missing.add(ids.get(i));
+            }
+        }
+        Map<Long, FeedEntry> loaded = load(missing);
+
+        synchronized (this) {
+            // Posts that no longer exist are dropped from the ranking
+            missing.stream().filter(id -> !loaded.containsKey(id)).forEach(ranker::remove);
+            // A change that landed while we were reading may be missing from what we loaded
+            if (version == loadVersion) {
+                entries.putAll(loaded);
+            }
+        }
+
+        List<ForumPostResponse> result = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            FeedEntry entry = found.get(i) != null ? found.get(i) : loaded.get(ids.get(i));
+            if (entry != null) {
+                result.add(entry.toResponse(viewerId));
+            }
+        }
+        return result;
+    }
+
+    public synchronized void onPostCreated(FeedEntry entry) {
+        ranker.add(entry.getId(), POST_WEIGHT, System.currentTimeMillis());
+        entries.put(entry.getId(), entry);
+        changed();
+    }
+
+    public synchronized void onPostUpdated(Long postId, String title, String content, LocalDateTime updatedAt) {
+        replaceEntry(postId, entry -> entry.withContent(title, content, updatedAt));
+    }
+
+    public synchronized void onPostImageChanged(Long postId, String imageUrl, String thumbnailUrl, ForumPost.ImageStatus status) {
+        replaceEntry(postId, entry -> entry.withImage(imageUrl, thumbnailUrl, status));
+    }
+
+    public synchronized void onPostLikeChanged(Long postId, Long userId, boolean liked, int likeCount) {
+        long now = System.currentTimeMillis();
+        if (liked) {
+            ranker.add(postId, LIKE_WEIGHT, now);
+            likedAt.computeIfAbsent(postId, id -> new HashMap<>()).put(userId, now);
+        } else {
+            // Retracting at the current scale would take back more than the like ever added
+            Map<Long, Long> likes = likedAt.get(postId);
+            Long at = likes != null ? likes.remove(userId) : null;
+            if (at == null) {
+                at = countedAt.getOrDefault(postId, now);
+            }
+            ranker.add(postId, -LIKE_WEIGHT, at);
+        }
+        replaceEntry(postId, entry -> entry.withLike(userId, liked, likeCount));
+    }
+
+    public synchronized void onCommentCountChanged(Long postId, int delta) {
+        ranker.add(postId, delta * COMMENT_WEIGHT, System.currentTimeMillis());
+        replaceEntry(postId, entry -> entry.withCommentDelta(delta));
+    }
+
+    public synchronized void onPostDeleted(Long postId) {
+        ranker.remove(postId);
+        entries.remove(postId);
+        likedAt.remove(postId);
+        countedAt.remove(postId);
+        changed();
+    }
+
+    /**
+     * Prune posts that have decayed away and write the scores to forum_trending_scores.
+     */
+    @Scheduled(fixedDelayString = "${forum.trending.checkpoint-interval-ms:300000}",
+               initialDelayString = "${forum.trending.checkpoint-interval-ms:300000}")
+    public void checkpoint() {
+        if (!initialized) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<Long, Double> scores;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            ranker.prune(MIN_SCORE, now);
+            Set<Long> top = new HashSet<>(ranker.top(MAX_LIMIT));
+            entries.keySet().retainAll(top);
+            likedAt.keySet().removeIf(postId -> !ranker.contains(postId));
+            countedAt.keySet().removeIf(postId -> !ranker.contains(postId));
+            scores = ranker.scores(now);
+            dirty = false;
+        }
+
+        LocalDateTime scoredAt = LocalDateTime.now();
+        List<ForumTrendingScore> rows = scores.entrySet().stream()
+                .map(score -> new ForumTrendingScore(score.getKey(), score.getValue(), scoredAt))
+                .collect(Collectors.toList());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                scoreRepository.deleteAllInBatch();
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows, Math.max(1, rows.size()), (statement, row) -> {
+                    statement.setLong(1, row.getPostId());
+                    statement.setDouble(2, row.getScore());
+                    statement.setTimestamp(3, Timestamp.valueOf(row.getScoredAt()));
+                });
+            });
+            logger.debug("Checkpointed {} trending scores", rows.size());
+        } catch (Exception e) {
+            synchronized (this) {
+                dirty = true;
+            }
+            logger.error("Failed to checkpoint trending scores: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            stats.put("trackedPosts", ranker.size());
+            stats.put("cachedEntries", entries.size());
+        }
+        stats.put("halfLifeHours", halfLifeMillis / 3_600_000L);
+        stats.put("initialized", initialized);
+        return stats;
+    }
+
+    private void replaceEntry(Long postId, UnaryOperator<FeedEntry> change) {
+        FeedEntry entry = entries.get(postId);
+        if (entry != null) {
+            entries.put(postId, change.apply(entry));
+        }
+        changed();
+    }
+
+    private void changed() {
+        version++;
+        dirty = true;
+    }
+
+    private Map<Long, FeedEntry> load(Collection<Long> postIds) {
+        List<ForumPostResponse> summaries = postRepository.findSummariesByIds(postIds);
+        Map<Long, Set<Long>> likers = new HashMap<>();
+        if (!summaries.isEmpty()) {
+            for (Object[] row : postRepository.findLikesForPosts(postIds)) {
+                likers.computeIfAbsent(((Number) row[0]).longValue(), id -> new HashSet<>()).add(((Number) row[1]).longValue());
+            }
+        }
+        return summaries.stream().collect(Collectors.toMap(ForumPostResponse::getId,
+                summary -> FeedEntry.fromSummary(summary, likers.getOrDefault(summary.getId(), Collections.emptySet()))));
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
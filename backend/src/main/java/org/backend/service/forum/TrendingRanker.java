@@ -0,0 +1,168 @@
+package org.backend.service.forum;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Time-decayed engagement scores for forum posts, kept ordered so the top of the ranking can be
+ * read without scoring anything.
+ *
+ * Scores use forward decay: an event of weight w at time t is stored as
+ * {@code w * 2^((t - epoch) / halfLife)} instead of decaying every score as time passes. All
+ * stored values shrink at the same rate, so their order never changes and each event is a single
+ * O(log n) update. When the multiplier grows too large the epoch is moved forward and every value
+ * is rescaled once.
+ *
+ * Not thread-safe; {@link ForumTrendingService} serializes access.
+ */
+final class TrendingRanker {
+    // 2^60 is far from overflow, and even a much larger weight sum would still fit
+    private static final double REBASE_EXPONENT = 60.0;
+
+    private static final Comparator<Ranked> ORDER = Comparator
+            .comparingDouble((Ranked ranked) -> ranked.value)
+            .thenComparingLong(ranked -> ranked.postId);
+
+    private final double halfLifeMillis;
+    private final int maxTracked;
+    private final Map<Long, Ranked> byPost = new HashMap<>();
+    private final TreeSet<Ranked> ordered = new TreeSet<>(ORDER);
+    private long epochMillis;
+
+    TrendingRanker(long halfLifeMillis, int maxTracked, long nowMillis) {
+        this.halfLifeMillis = halfLifeMillis;
+        this.maxTracked = maxTracked;
+        this.epochMillis = nowMillis;
+    }
+
+    /**
+     * Add an event of the given weight (negative to retract one). Scores never go below zero;
+     * a post whose score reaches zero is dropped.
+     */
+    void add(long postId, double weight, long atMillis) {
+        // growth() may rebase, so read the current value only after it
+        double scaled = weight * growth(atMillis);
+        Ranked current = byPost.get(postId);
+        if (current == null && weight <= 0) {
+            return;
+        }
+        put(postId, (current != null ? current.value : 0.0) + scaled);
+    }
+
+    void remove(long postId) {
+        Ranked current = byPost.remove(postId);
+        if (current != null) {
+            ordered.remove(current);
+        }
+    }
+
+    boolean contains(long postId) {
+        return byPost.containsKey(postId);
+    }
+
+    /**
+     * @return ids of the highest-scoring posts, best first
+     */
+    List<Long> top(int limit) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, ordered.size()));
+        Iterator<Ranked> iterator = ordered.descendingIterator();
+        while (iterator.hasNext() && ids.size() < limit) {
+            ids.add(iterator.next().postId);
+        }
+        return ids;
+    }
+
+    /**
+     * @return the decayed score of a post as of {@code nowMillis}, or 0 if it is not tracked
+     */
+    double score(long postId, long nowMillis) {
+        double divisor = growth(nowMillis);
+        Ranked current = byPost.get(postId);
+        return current != null ? current.value / divisor : 0.0;
+    }
+
+    /**
+     * @return every tracked post with its decayed score as of {@code nowMillis}, best first
+     */
+    Map<Long, Double> scores(long nowMillis) {
+        double divisor = growth(nowMillis);
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        ordered.descendingIterator().forEachRemaining(ranked -> scores.put(ranked.postId, ranked.value / divisor));
+        return scores;
+    }
+
+    /**
+     * Drop posts whose decayed score has fallen below {@code minScore}.
+     *
+     * @return the number of posts dropped
+     */
+    int prune(double minScore, long nowMillis) {
+        double threshold = minScore * growth(nowMillis);
+        int dropped = 0;
+        while (!ordered.isEmpty() && ordered.first().value < threshold) {
+            byPost.remove(ordered.pollFirst().postId);
+            dropped++;
+        }
+        return dropped;
+    }
+
+    int size() {
+        return byPost.size();
+    }
+
+    private void put(long postId, double value) {
+        Ranked previous = byPost.remove(postId);
+        if (previous != null) {
+            ordered.remove(previous);
+        }
+        if (value <= 0) {
+            return;
+        }
+        Ranked ranked = new Ranked(postId, value);
+        byPost.put(postId, ranked);
+        ordered.add(ranked);
+        if (ordered.size() > maxTracked) {
+            byPost.remove(ordered.pollFirst().postId);
+        }
+    }
+
+    private double growth(long atMillis) {
+        double exponent = (atMillis - epochMillis) / halfLifeMillis;
+        if (exponent > REBASE_EXPONENT) {
+            rebase(atMillis);
+            exponent = 0.0;
+        }
+        return Math.pow(2.0, exponent);
+    }
+
+    private void rebase(long newEpochMillis) {
+        double factor = Math.pow(2.0, -(newEpochMillis - epochMillis) / halfLifeMillis);
+        epochMillis = newEpochMillis;
+        List<Ranked> rescaled = new ArrayList<>(ordered.size());
+        for (Ranked ranked : ordered) {
+            rescaled.add(new Ranked(ranked.postId, ranked.value * factor));
+        }
+        ordered.clear();
+        byPost.clear();
+        for (Ranked ranked : rescaled) {
+            ordered.add(ranked);
+            byPost.put(ranked.postId, ranked);
+        }
+    }
+
+    private static final class Ranked {
+        private final long postId;
+        private final double value;
+
+        private Ranked(long postId, double value) {
+            this.postId = postId;
+            this.value = value;
+        }
+    }
+}
@@ -68,6 +68,17 @@ public class AnnouncementServiceImpl implements AnnouncementService {
         return mapToResponse(updatedAnnouncement);
     }
 
+    @Override
+    public String replaceThumbnail(Long id, String thumbnailUrl) {
+        Announcement announcement = announcementRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Announcement not found with id: " + id));
+
+        String previousUrl = announcement.getThumbnailUrl();
+        announcement.setThumbnailUrl(thumbnailUrl);
+        announcementRepository.save(announcement);
+        return previousUrl;
+    }
+
     @Override
     public void deleteAnnouncement(Long id) {
         Announcement announcement = announcementRepository.findById(id)
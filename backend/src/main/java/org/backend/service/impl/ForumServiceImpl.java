@@ -9,16 +9,38 @@ import org.backend.model.PostReport;
 import org.backend.model.User;
 import org.backend.model.CommentReport;
 import org.backend.model.ERole;
+import org.backend.model.Report;
+import org.backend.payload.request.FeedCursor;
+import org.backend.payload.response.CursorPage;
+import org.backend.payload.response.ForumCommentResponse;
+import org.backend.payload.response.ForumPostResponse;
+import org.backend.payload.response.LikeResponse;
 import org.backend.repository.ForumCommentRepository;
 import org.backend.repository.ForumPostRepository;
 import org.backend.repository.PostReportRepository;
 import org.backend.repository.CommentReportRepository;
+import org.backend.repository.ReportRepository;
 import org.backend.service.ForumService;
 import org.backend.service.StorageService;
+import org.backend.service.forum.FeedEntry;
+import org.backend.service.forum.ForumCommentStreamer;
+import org.backend.service.forum.ForumDeltaPublisher;
+import org.backend.service.forum.ForumFeedCache;
+import org.backend.service.forum.ForumSearchIndex;
+import org.backend.service.forum.ForumTrendingService;
+import org.backend.service.media.ImageProcessingService;
+import org.backend.service.moderation.ModerationQueueService;
+import org.backend.service.moderation.ReportDuplicateFilter;
+import org.backend.service.moderation.ReportStatsService;
+import org.backend.service.media.SpooledUpload;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,9 +49,18 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -40,8 +71,20 @@ public class ForumServiceImpl implements ForumService {
     private final ForumCommentRepository commentRepository;
     private final PostReportRepository reportRepository;
     private final CommentReportRepository commentReportRepository;
+    private final ReportRepository unifiedReportRepository;
     private final StorageService storageService;
+    private final ForumFeedCache feedCache;
+    private final ForumTrendingService trendingService;
+    private final ForumDeltaPublisher deltaPublisher;
+    private final ModerationQueueService moderationQueueService;
+    private final ReportDuplicateFilter reportDuplicateFilter;
+    private final ReportStatsService reportStatsService;
+    private final ForumSearchIndex searchIndex;
+    private final ForumCommentStreamer commentStreamer;
+    private final ImageProcessingService imageProcessingService;
     private static final String FORUM_IMAGES_PATH = "forum-images/";
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -73,16 +116,23 @@ public class ForumServiceImpl implements ForumService {
         post.setContent(content);
         post.setAuthor(author);
 
-        if (image != null && !image.isEmpty()) {
-            try {
-                String imageUrl = storageService.uploadFile(image, FORUM_IMAGES_PATH + author.getId() + "/");
-                post.setImageUrl(imageUrl);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to upload image", e);
+        SpooledUpload upload = spoolImage(image);
+        String imageJobId = upload != null ? UUID.randomUUID().toString() : null;
+        post.setImageStatus(upload != null ? ForumPost.ImageStatus.PROCESSING : ForumPost.ImageStatus.NONE);
+        post.setImageJobId(imageJobId);
+
+        ForumPost saved = postRepository.save(post);
+        FeedEntry entry = FeedEntry.fromNewPost(saved);
+        afterCompletion(() -> {
+            feedCache.onPostCreated(entry);
+            trendingService.onPostCreated(entry);
+            deltaPublisher.postCreated(entry.toResponse(null));
+            searchIndex.indexPost(saved.getId(), title, content);
+            if (upload != null) {
+                processPostImage(saved.getId(), imageJobId, upload, FORUM_IMAGES_PATH + author.getId() + "/", null, null);
             }
-        }
-
-        return postRepository.save(post);
+        }, upload);
+        return saved;
     }
 
     @Override
@@ -95,37 +145,42 @@ public class ForumServiceImpl implements ForumService {
             throw new UnauthorizedException("You are not authorized to update this post");
         }
 
-        post.setTitle(title);
-        post.setContent(content);
-
-        if (image != null && !image.isEmpty()) {
-            try {
-                // Delete old image if exists
-                if (post.getImageUrl() != null) {
-                    storageService.deleteFile(post.getImageUrl());
-                }
-                String imageUrl = storageService.uploadFile(image, FORUM_IMAGES_PATH + currentUser.getId() + "/");
-                post.setImageUrl(imageUrl);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to upload image", e);
-            }
+        // The old image keeps being served until the replacement is processed; it is only deleted
+        // once the new URLs are committed, so a failed upload never leaves the post without one
+        SpooledUpload upload = spoolImage(image);
+        String oldImageUrl = post.getImageUrl();
+        String oldThumbnailUrl = post.getThumbnailUrl();
+        String imageJobId = upload != null ? UUID.randomUUID().toString() : null;
+
+        // Only the edited columns are written; the loaded entity is never flushed
+        postRepository.updateText(postId, title, content, LocalDateTime.now());
+        if (upload != null) {
+            postRepository.startImageJob(postId, imageJobId, ForumPost.ImageStatus.PROCESSING);
         }
-
-        return postRepository.save(post);
+        ForumPost saved = postRepository.findById(postId)
+                .orElseThrow(() -> new EntityNotFoundException("Post not found with id: " + postId));
+        afterCompletion(() -> {
+            feedCache.onPostUpdated(postId, title, content, LocalDateTime.now());
+            trendingService.onPostUpdated(postId, title, content, LocalDateTime.now());
+            searchIndex.indexPost(postId, title, content);
+            if (upload != null) {
+                feedCache.onPostImageChanged(postId, oldImageUrl, oldThumbnailUrl, ForumPost.ImageStatus.PROCESSING);
+                trendingService.onPostImageChanged(postId, oldImageUrl, oldThumbnailUrl, ForumPost.ImageStatus.PROCESSING);
+                processPostImage(postId, imageJobId, upload, FORUM_IMAGES_PATH + currentUser.getId() + "/", oldImageUrl, oldThumbnailUrl);
+            }
+        }, upload);
+        return saved;
     }
 
     @Override
     @Transactional
     public void deletePost(Long postId, User currentUser) {
-        // First check if post exists to prevent EntityNotFoundException
-        boolean postExists = postRepository.existsById(postId);
-        if (!postExists) {
+        // Check if post exists to prevent EntityNotFoundException
+        ForumPost post = postRepository.findById(postId).orElse(null);
+        if (post == null) {
             logger.warn("Attempted to delete post with ID: {} but it doesn't exist", postId);
             return; // Exit early if post doesn't exist
         }
-        
-        ForumPost post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("Post not found with id: " + postId));
 
         // Check if this is a report management operation (currentUser is null)
         boolean isReportManagement = currentUser == null;
@@ -151,31 +206,156 @@ public class ForumServiceImpl implements ForumService {
             throw new UnauthorizedException("You are not authorized to delete this post");
         }
 
-        // Delete image if exists
-        if (post.getImageUrl() != null) {
-            storageService.deleteFile(post.getImageUrl());
+        String imageUrl = post.getImageUrl();
+        String thumbnailUrl = post.getThumbnailUrl();
+
+        logger.info("Deleting post: {}, requested by: {}", postId, 
+                    currentUser != null ? currentUser.getId() : "report management");
+        deletePostRows(List.of(postId));
+        afterCommit(() -> postDeleted(postId, imageUrl, thumbnailUrl));
+    }
+
+    @Override
+    @Transactional
+    public int deletePostsForModeration(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return 0;
         }
+        List<Object[]> posts = postRepository.findImageUrlsByIds(postIds);
+        if (posts.isEmpty()) {
+            return 0;
+        }
+        List<Long> found = posts.stream().map(row -> (Long) row[0]).collect(Collectors.toList());
+        deletePostRows(found);
+        afterCommit(() -> posts.forEach(row -> postDeleted((Long) row[0], (String) row[1], (String) row[2])));
+        return found.size();
+    }
 
-        // First delete any comment reports associated with the post's comments
-        logger.info("Deleting comment reports for all comments on post: {}", postId);
-        List<ForumComment> comments = commentRepository.findByPostOrderByCreatedAtAsc(post);
-        for (ForumComment comment : comments) {
-            try {
-                commentReportRepository.deleteByComment(comment);
-                logger.info("Deleted reports for comment: {}", comment.getId());
-            } catch (Exception e) {
-                logger.warn("Could not delete comment reports for comment: {}", comment.getId(), e);
-                // Continue with deletion even if some comment reports couldn't be deleted
-            }
+    @Override
+    @Transactional
+    public int deleteCommentsForModeration(Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> comments = commentRepository.findPostIdsByCommentIds(commentIds);
+        if (comments.isEmpty()) {
+            return 0;
         }
+        List<Long> found = comments.stream().map(row -> (Long) row[0]).collect(Collectors.toList());
+        deleteCommentRows(found);
+        afterCommit(() -> comments.forEach(row -> commentDeleted((Long) row[1], (Long) row[0])));
+        return found.size();
+    }
 
-        // Then delete any post reports
-        logger.info("Deleting any reports associated with post: {}", postId);
-        reportRepository.deleteByPost(post);
+    // After-commit side of a post delete: in-memory views, subscribers and stored files
+    private void postDeleted(Long postId, String imageUrl, String thumbnailUrl) {
+        feedCache.onPostDeleted(postId);
+        trendingService.onPostDeleted(postId);
+        deltaPublisher.postDeleted(postId);
+        searchIndex.removePost(postId);
+        // Storage is not transactional; only remove the image once the post is really gone
+        if (imageUrl != null) {
+            deleteStoredFile(imageUrl);
+        }
+        if (thumbnailUrl != null) {
+            deleteStoredFile(thumbnailUrl);
+        }
+    }
 
-        logger.info("Deleting post: {}, requested by: {}", postId, 
-                    currentUser != null ? currentUser.getId() : "report management");
-        postRepository.delete(post);
+    private void commentDeleted(Long postId, Long commentId) {
+        feedCache.onCommentCountChanged(postId, -1);
+        trendingService.onCommentCountChanged(postId, -1);
+        deltaPublisher.commentDeleted(postId, commentId);
+        searchIndex.removeComment(commentId);
+    }
+
+    // Removes posts and everything that references them with a fixed number of set-based statements,
+    // however many posts there are, children first so no foreign key is violated. Bulk deletes bypass
+    // the persistence context, so pending changes are flushed before and the context is cleared after.
+    private void deletePostRows(Collection<Long> postIds) {
+        entityManager.flush();
+        int commentReports = commentReportRepository.bulkDeleteByPostIds(postIds);
+        int unifiedReports = unifiedReportRepository.bulkDeleteByPostIds(postIds);
+        int commentLikes = commentRepository.bulkDeleteLikesByPostIds(postIds);
+        int postLikes = postRepository.bulkDeleteLikesByPostIds(postIds);
+        int comments = commentRepository.bulkDeleteByPostIds(postIds);
+        int postReports = reportRepository.bulkDeleteByPostIds(postIds);
+        postRepository.bulkDeleteByIds(postIds);
+        moderationQueueService.postsRemoved(postIds);
+        entityManager.clear();
+
+        logger.info("Deleted posts {} with {} comments, {} likes, {} comment likes and {} reports",
+                postIds, comments, postLikes, commentLikes, commentReports + unifiedReports + postReports);
+    }
+
+    private void deleteCommentRows(Collection<Long> commentIds) {
+        entityManager.flush();
+        int commentReports = commentReportRepository.bulkDeleteByCommentIds(commentIds);
+        int unifiedReports = unifiedReportRepository.bulkDeleteByCommentIds(commentIds);
+        int likes = commentRepository.bulkDeleteLikesByCommentIds(commentIds);
+        commentRepository.bulkDeleteByIds(commentIds);
+        moderationQueueService.commentsRemoved(commentIds);
+        entityManager.clear();
+
+        logger.info("Deleted comments {} with {} likes and {} reports", commentIds, likes, commentReports + unifiedReports);
+    }
+
+    private SpooledUpload spoolImage(MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            return null;
+        }
+        try {
+            return imageProcessingService.spool(image);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to upload image", e);
+        }
+    }
+
+    // Runs on an image worker once the post row is committed. The conditional updates only apply
+    // while the post is still PROCESSING this job's upload, so a post deleted or given a newer image
+    // in the meantime just drops it.
+    private void processPostImage(Long postId, String imageJobId, SpooledUpload upload, String prefix,
+                                  String oldImageUrl, String oldThumbnailUrl) {
+        imageProcessingService.process(upload, prefix, true,
+                processed -> {
+                    int updated = postRepository.completeImage(postId, imageJobId, processed.getImageUrl(),
+                            processed.getThumbnailUrl(), ForumPost.ImageStatus.READY, ForumPost.ImageStatus.PROCESSING);
+                    if (updated == 0) {
+                        logger.info("Post {} was deleted or got a newer image while this one was processing; discarding the upload", postId);
+                        deleteStoredFile(processed.getImageUrl());
+                        deleteStoredFile(processed.getThumbnailUrl());
+                        return;
+                    }
+                    feedCache.onPostImageChanged(postId, processed.getImageUrl(), processed.getThumbnailUrl(),
+                            ForumPost.ImageStatus.READY);
+                    trendingService.onPostImageChanged(postId, processed.getImageUrl(), processed.getThumbnailUrl(),
+                            ForumPost.ImageStatus.READY);
+                    if (oldImageUrl != null) {
+                        deleteStoredFile(oldImageUrl);
+                    }
+                    if (oldThumbnailUrl != null) {
+                        deleteStoredFile(oldThumbnailUrl);
+                    }
+                },
+                error -> {
+                    // A failed replacement falls back to the image the post already had
+                    ForumPost.ImageStatus status = oldImageUrl != null ? ForumPost.ImageStatus.READY : ForumPost.ImageStatus.FAILED;
+                    if (postRepository.failImage(postId, imageJobId, status, ForumPost.ImageStatus.PROCESSING) > 0) {
+                        feedCache.onPostImageChanged(postId, oldImageUrl, oldThumbnailUrl, status);
+                        trendingService.onPostImageChanged(postId, oldImageUrl, oldThumbnailUrl, status);
+                    }
+                });
+    }
+
+    private void deleteStoredFile(String fileUrl) {
+        if (fileUrl == null) {
+            return;
+        }
+        try {
+            storageService.deleteFile(fileUrl);
+        } catch (Exception e) {
+            logger.warn("Could not delete stored file {}: {}", fileUrl, e.getMessage());
+        }
     }
 
     @Override
@@ -189,6 +369,96 @@ public class ForumServiceImpl implements ForumService {
         return postRepository.findAllByOrderByCreatedAtDesc(pageable);
     }
 
+    @Override
+    public CursorPage<ForumPostResponse> getFeed(String cursor, int size, Long viewerId) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, pageSize);
+        FeedCursor after = (cursor == null || cursor.isBlank()) ? null : FeedCursor.decode(cursor);
+
+        // The first few pages of the feed are answered from memory
+        Optional<CursorPage<ForumPostResponse>> cached = feedCache.readFeed(after, pageSize, viewerId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        Slice<ForumPostResponse> slice = after == null
+                ? postRepository.findFeedSummaries(pageable)
+                : postRepository.findFeedSummariesAfter(after.getCreatedAt(), after.getId(), pageable);
+
+        List<ForumPostResponse> posts = slice.getContent();
+        applyLikedByMe(posts, viewerId);
+
+        String nextCursor = null;
+        if (slice.hasNext() && !posts.isEmpty()) {
+            ForumPostResponse last = posts.get(posts.size() - 1);
+            nextCursor = new FeedCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(posts, nextCursor, slice.hasNext(), posts.size());
+    }
+
+    @Override
+    public Page<ForumPostResponse> getPostSummaries(Pageable pageable, Long viewerId) {
+        if (pageable.getSort().isUnsorted()) {
+            Optional<Page<ForumPostResponse>> cached = feedCache.readPage(pageable, viewerId);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        Page<ForumPostResponse> page = postRepository.findPostSummaries(pageable);
+        applyLikedByMe(page.getContent(), viewerId);
+        return page;
+    }
+
+    @Override
+    public Map<String, Object> getFeedCacheStats() {
+        return feedCache.getStats();
+    }
+
+    @Override
+    public List<ForumPostResponse> getTrendingPosts(int limit, Long viewerId) {
+        return trendingService.getTrending(limit, viewerId);
+    }
+
+    // Cache and search index updates must only ever reflect committed rows, so defer them until the transaction succeeds
+    private void afterCommit(Runnable action) {
+        afterCompletion(action, null);
+    }
+
+    // Like afterCommit, but a spooled upload is discarded if the transaction rolls back instead
+    private void afterCompletion(Runnable action, SpooledUpload upload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED && upload != null) {
+                    upload.discard();
+                }
+            }
+        });
+    }
+
+    // One post_likes lookup per page, however many rows the page has
+    private void applyLikedByMe(List<ForumPostResponse> posts, Long viewerId) {
+        Set<Long> likedPostIds = findLikedPostIds(viewerId, posts.stream().map(ForumPostResponse::getId).collect(Collectors.toList()));
+        posts.forEach(post -> post.setLikedByMe(likedPostIds.contains(post.getId())));
+    }
+
+    private Set<Long> findLikedPostIds(Long viewerId, List<Long> postIds) {
+        if (viewerId == null || postIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(postRepository.findLikedPostIds(viewerId, postIds));
+    }
+
     @Override
     public Page<ForumPost> getPostsByUser(User user, Pageable pageable) {
         return postRepository.findByAuthor(user, pageable);
@@ -196,17 +466,56 @@ public class ForumServiceImpl implements ForumService {
 
     @Override
     @Transactional
-    public ForumPost toggleLikePost(Long postId, User user) {
-        ForumPost post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("Post not found with id: " + postId));
+    public LikeResponse toggleLikePost(Long postId, User user) {
+        if (!postRepository.existsById(postId)) {
+            throw new EntityNotFoundException("Post not found with id: " + postId);
+        }
 
-        if (post.getLikes().contains(user)) {
-            post.removeLike(user);
+        // Try to unlike first; if there was nothing to remove the user has not liked it yet
+        int removed = postRepository.deleteLike(postId, user.getId());
+        boolean liked = removed == 0;
+        if (liked) {
+            int added = postRepository.insertLike(postId, user.getId());
+            if (added > 0) {
+                postRepository.adjustLikeCount(postId, added);
+            }
         } else {
-            post.addLike(user);
+            postRepository.adjustLikeCount(postId, -removed);
+        }
+
+        int likeCount = postRepository.findLikeCountById(postId);
+        afterCommit(() -> {
+            feedCache.onPostLikeChanged(postId, user.getId(), liked, likeCount);
+            trendingService.onPostLikeChanged(postId, user.getId(), liked, likeCount);
+            deltaPublisher.likeCountChanged(postId, likeCount);
+        });
+        return new LikeResponse(postId, likeCount, liked);
+    }
+
+    @Override
+    @Transactional
+    public LikeResponse setPostLike(Long postId, User user, boolean liked) {
+        if (!postRepository.existsById(postId)) {
+            throw new EntityNotFoundException("Post not found with id: " + postId);
         }
 
-        return postRepository.save(post);
+        // Idempotent: repeating the same request changes neither the join table nor the counter
+        int delta = liked
+                ? postRepository.insertLike(postId, user.getId())
+                : -postRepository.deleteLike(postId, user.getId());
+        if (delta != 0) {
+            postRepository.adjustLikeCount(postId, delta);
+        }
+
+        int likeCount = postRepository.findLikeCountById(postId);
+        if (delta != 0) {
+            afterCommit(() -> {
+                feedCache.onPostLikeChanged(postId, user.getId(), liked, likeCount);
+                trendingService.onPostLikeChanged(postId, user.getId(), liked, likeCount);
+                deltaPublisher.likeCountChanged(postId, likeCount);
+            });
+        }
+        return new LikeResponse(postId, likeCount, liked);
     }
 
     @Override
@@ -220,7 +529,14 @@ public class ForumServiceImpl implements ForumService {
         comment.setAuthor(author);
         comment.setPost(post);
 
-        return commentRepository.save(comment);
+        ForumComment saved = commentRepository.save(comment);
+        afterCommit(() -> {
+            feedCache.onCommentCountChanged(postId, 1);
+            trendingService.onCommentCountChanged(postId, 1);
+            deltaPublisher.commentAdded(saved);
+            searchIndex.indexComment(saved.getId(), postId, content);
+        });
+        return saved;
     }
 
     @Override
@@ -234,21 +550,21 @@ public class ForumServiceImpl implements ForumService {
         }
 
         comment.setContent(content);
-        return commentRepository.save(comment);
+        ForumComment saved = commentRepository.save(comment);
+        Long postId = saved.getPost().getId();
+        afterCommit(() -> searchIndex.indexComment(commentId, postId, content));
+        return saved;
     }
 
     @Override
     @Transactional
     public void deleteComment(Long commentId, User currentUser) {
-        // First check if comment exists to prevent EntityNotFoundException
-        boolean commentExists = commentRepository.existsById(commentId);
-        if (!commentExists) {
+        // Check if comment exists to prevent EntityNotFoundException
+        ForumComment comment = commentRepository.findById(commentId).orElse(null);
+        if (comment == null) {
             logger.warn("Attempted to delete comment with ID: {} but it doesn't exist", commentId);
             return; // Exit early if comment doesn't exist
         }
-        
-        ForumComment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new EntityNotFoundException("Comment not found with id: " + commentId));
 
         // Check if this is a report management operation (currentUser is null)
         boolean isReportManagement = currentUser == null;
@@ -274,13 +590,11 @@ public class ForumServiceImpl implements ForumService {
             throw new UnauthorizedException("You are not authorized to delete this comment");
         }
 
-        // First delete any reports associated with this comment to avoid foreign key constraint violations
-        logger.info("Deleting any reports associated with comment: {}", commentId);
-        commentReportRepository.deleteByComment(comment);
-
         logger.info("Deleting comment: {}, requested by: {}", commentId, 
                     currentUser != null ? currentUser.getId() : "report management");
-        commentRepository.delete(comment);
+        Long postId = comment.getPost().getId();
+        deleteCommentRows(List.of(commentId));
+        afterCommit(() -> commentDeleted(postId, commentId));
     }
 
     @Override
@@ -299,19 +613,83 @@ public class ForumServiceImpl implements ForumService {
         return commentRepository.findByPostOrderByCreatedAtAsc(post, pageable);
     }
 
+    @Override
+    public CursorPage<ForumCommentResponse> getCommentPage(Long postId, String cursor, int size, Long viewerId) {
+        if (!postRepository.existsById(postId)) {
+            throw new EntityNotFoundException("Post not found with id: " + postId);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_COMMENT_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, pageSize);
+        Slice<ForumCommentResponse> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = commentRepository.findCommentSummaries(postId, pageable);
+        } else {
+            FeedCursor after = FeedCursor.decode(cursor);
+            slice = commentRepository.findCommentSummariesAfter(postId, after.getCreatedAt(), after.getId(), pageable);
+        }
+
+        List<ForumCommentResponse> comments = slice.getContent();
+        if (viewerId != null && !comments.isEmpty()) {
+            Set<Long> liked = new HashSet<>(commentRepository.findLikedCommentIds(viewerId,
+                    comments.stream().map(ForumCommentResponse::getId).collect(Collectors.toList())));
+            comments.forEach(comment -> comment.setLikedByMe(liked.contains(comment.getId())));
+        }
+
+        String nextCursor = null;
+        if (slice.hasNext() && !comments.isEmpty()) {
+            ForumCommentResponse last = comments.get(comments.size() - 1);
+            nextCursor = new FeedCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(comments, nextCursor, slice.hasNext(), comments.size());
+    }
+
+    @Override
+    public int streamComments(Long postId, Long viewerId, OutputStream out) {
+        return commentStreamer.stream(postId, viewerId, out);
+    }
+
+    @Override
+    public boolean postExists(Long postId) {
+        return postRepository.existsById(postId);
+    }
+
     @Override
     @Transactional
-    public ForumComment toggleLikeComment(Long commentId, User user) {
-        ForumComment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new EntityNotFoundException("Comment not found with id: " + commentId));
+    public LikeResponse toggleLikeComment(Long commentId, User user) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new EntityNotFoundException("Comment not found with id: " + commentId);
+        }
 
-        if (comment.getLikes().contains(user)) {
-            comment.removeLike(user);
+        int removed = commentRepository.deleteLike(commentId, user.getId());
+        boolean liked = removed == 0;
+        if (liked) {
+            int added = commentRepository.insertLike(commentId, user.getId());
+            if (added > 0) {
+                commentRepository.adjustLikeCount(commentId, added);
+            }
         } else {
-            comment.addLike(user);
+            commentRepository.adjustLikeCount(commentId, -removed);
         }
 
-        return commentRepository.save(comment);
+        return new LikeResponse(commentId, commentRepository.findLikeCountById(commentId), liked);
+    }
+
+    @Override
+    @Transactional
+    public LikeResponse setCommentLike(Long commentId, User user, boolean liked) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new EntityNotFoundException("Comment not found with id: " + commentId);
+        }
+
+        int delta = liked
+                ? commentRepository.insertLike(commentId, user.getId())
+                : -commentRepository.deleteLike(commentId, user.getId());
+        if (delta != 0) {
+            commentRepository.adjustLikeCount(commentId, delta);
+        }
+
+        return new LikeResponse(commentId, commentRepository.findLikeCountById(commentId), liked);
     }
 
     // Report operations implementation
@@ -331,16 +709,25 @@ public class ForumServiceImpl implements ForumService {
             throw new IllegalStateException("You cannot report your own post");
         }
 
-        logger.info("Creating new PostReport object");
-        PostReport report = new PostReport();
-        report.setPost(post);
-        report.setReporter(reporter);
-        report.setReason(reason);
-        report.setStatus(PostReport.ReportStatus.PENDING);
+        // Reporting the same post again returns the report already on file without writing anything
+        Long reporterId = reporter.getId();
+        if (reportDuplicateFilter.mightHaveReported(ReportDuplicateFilter.Kind.POST_REPORT, postId, reporterId)) {
+            Optional<PostReport> existing = reportRepository.findByPostIdAndReporterId(postId, reporterId);
+            if (existing.isPresent()) {
+                logger.info("User {} already reported post {}; returning report {}", reporterId, postId, existing.get().getId());
+                return existing.get();
+            }
+        }
 
-        logger.info("Saving report to database using saveAndFlush");
-        PostReport savedReport = reportRepository.saveAndFlush(report);
-        logger.info("Report saved successfully with ID: {}", savedReport.getId());
+        int inserted = reportRepository.insertIfAbsent(postId, reporterId, reason, LocalDateTime.now());
+        reportDuplicateFilter.reported(ReportDuplicateFilter.Kind.POST_REPORT, postId, reporterId);
+        PostReport savedReport = reportRepository.findByPostIdAndReporterId(postId, reporterId)
+                .orElseThrow(() -> new IllegalStateException("Report for post " + postId + " was not saved"));
+        if (inserted > 0) {
+            logger.info("Report saved successfully with ID: {}", savedReport.getId());
+            moderationQueueService.postReported(post, reason, reporterId);
+            reportStatsService.reportFiled(Report.ReportType.POST, post.getAuthor(), savedReport.getCreatedAt());
+        }
         return savedReport;
     }
 
@@ -357,6 +744,8 @@ public class ForumServiceImpl implements ForumService {
 
         // Update the status
         report.setStatus(status);
+        moderationQueueService.reportStatusChanged(Report.ReportType.POST, report.getPost().getId(), report.getReporter().getId(),
+                oldStatus == PostReport.ReportStatus.PENDING, status == PostReport.ReportStatus.PENDING);
 
         // If the report is being rejected and a rejection reason is provided, save it
         if (status == PostReport.ReportStatus.REJECTED && rejectionReason != null && !rejectionReason.trim().isEmpty()) {
@@ -367,6 +756,8 @@ public class ForumServiceImpl implements ForumService {
         if (oldStatus == PostReport.ReportStatus.PENDING && 
             (status == PostReport.ReportStatus.APPROVED || status == PostReport.ReportStatus.REJECTED)) {
             report.setResolvedAt(LocalDateTime.now());
+            reportStatsService.reportResolved(Report.ReportType.POST, status == PostReport.ReportStatus.APPROVED,
+                    report.getCreatedAt(), report.getResolvedAt());
 
             // If the report is being approved, delete the post
             if (status == PostReport.ReportStatus.APPROVED) {
@@ -381,6 +772,8 @@ public class ForumServiceImpl implements ForumService {
                         // Pass the admin user for proper authentication
                         deletePost(postId, admin);
                         logger.info("Post deleted successfully after report approval");
+                        // This report was removed along with the post, so there is no row left to update
+                        return report;
                     } else {
                         logger.warn("Post with ID {} was already deleted", postId);
                         // Post was already deleted, just continue with report status update
@@ -427,6 +820,7 @@ public class ForumServiceImpl implements ForumService {
     }
 
     @Override
+    @Transactional
     public CommentReport reportComment(Long commentId, String reason, User reporter) {
         logger.info("Starting reportComment method for commentId: {} by reporter: {}", commentId, reporter.getUsername());
 
@@ -440,16 +834,25 @@ public class ForumServiceImpl implements ForumService {
             throw new IllegalStateException("You cannot report your own comment");
         }
 
-        logger.info("Creating new CommentReport object");
-        CommentReport report = new CommentReport();
-        report.setComment(comment);
-        report.setReporter(reporter);
-        report.setReason(reason);
-        report.setStatus(CommentReport.ReportStatus.PENDING);
+        // Reporting the same comment again returns the report already on file without writing anything
+        Long reporterId = reporter.getId();
+        if (reportDuplicateFilter.mightHaveReported(ReportDuplicateFilter.Kind.COMMENT_REPORT, commentId, reporterId)) {
+            Optional<CommentReport> existing = commentReportRepository.findByCommentIdAndReporterId(commentId, reporterId);
+            if (existing.isPresent()) {
+                logger.info("User {} already reported comment {}; returning report {}", reporterId, commentId, existing.get().getId());
+                return existing.get();
+            }
+        }
 
-        logger.info("Saving comment report to database");
-        CommentReport savedReport = commentReportRepository.saveAndFlush(report);
-        logger.info("Comment report saved successfully with ID: {}", savedReport.getId());
+        int inserted = commentReportRepository.insertIfAbsent(commentId, reporterId, reason, LocalDateTime.now());
+        reportDuplicateFilter.reported(ReportDuplicateFilter.Kind.COMMENT_REPORT, commentId, reporterId);
+        CommentReport savedReport = commentReportRepository.findByCommentIdAndReporterId(commentId, reporterId)
+                .orElseThrow(() -> new IllegalStateException("Report for comment " + commentId + " was not saved"));
+        if (inserted > 0) {
+            logger.info("Comment report saved successfully with ID: {}", savedReport.getId());
+            moderationQueueService.commentReported(comment, reason, reporterId);
+            reportStatsService.reportFiled(Report.ReportType.COMMENT, comment.getAuthor(), savedReport.getCreatedAt());
+        }
         return savedReport;
     }
 
@@ -464,6 +867,8 @@ public class ForumServiceImpl implements ForumService {
 
         // Update the status
         report.setStatus(status);
+        moderationQueueService.reportStatusChanged(Report.ReportType.COMMENT, report.getComment().getId(), report.getReporter().getId(),
+                oldStatus == CommentReport.ReportStatus.PENDING, status == CommentReport.ReportStatus.PENDING);
 
         // If the report is being rejected and a rejection reason is provided, save it
         if (status == CommentReport.ReportStatus.REJECTED && rejectionReason != null && !rejectionReason.trim().isEmpty()) {
@@ -474,6 +879,8 @@ public class ForumServiceImpl implements ForumService {
         if (oldStatus == CommentReport.ReportStatus.PENDING && 
             (status == CommentReport.ReportStatus.APPROVED || status == CommentReport.ReportStatus.REJECTED)) {
             report.setResolvedAt(LocalDateTime.now());
+            reportStatsService.reportResolved(Report.ReportType.COMMENT, status == CommentReport.ReportStatus.APPROVED,
+                    report.getCreatedAt(), report.getResolvedAt());
 
             // If the report is being approved, delete the comment
             if (status == CommentReport.ReportStatus.APPROVED) {
@@ -488,6 +895,8 @@ public class ForumServiceImpl implements ForumService {
                         // Pass the admin user for proper authentication
                         deleteComment(commentId, admin);
                         logger.info("Comment deleted successfully after report approval");
+                        // This report was removed along with the comment, so there is no row left to update
+                        return report;
                     } else {
                         logger.warn("Comment with ID {} was already deleted", commentId);
                         // Comment was already deleted, just continue with report status update
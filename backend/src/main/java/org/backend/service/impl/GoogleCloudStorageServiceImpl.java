@@ -12,6 +12,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -45,6 +46,22 @@ public class GoogleCloudStorageServiceImpl implements StorageService {
         return String.format("https://storage.googleapis.com/%s/%s", bucketName, objectName);
     }
 
+    @Override
+    public String uploadFile(Path file, String contentType, String prefix) throws IOException {
+        String filename = generateUniqueFilename(file.getFileName().toString());
+        String directory = StringUtils.hasText(prefix) ? prefix + "/" : uploadDir;
+        String objectName = directory + filename;
+
+        BlobId blobId = BlobId.of(bucketName, objectName);
+        BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
+                .setContentType(contentType)
+                .build();
+
+        storage.createFrom(blobInfo, file);
+
+        return String.format("https://storage.googleapis.com/%s/%s", bucketName, objectName);
+    }
+
     @Override
     public void deleteFile(String fileUrl) {
         String objectName = extractObjectNameFromUrl(fileUrl);
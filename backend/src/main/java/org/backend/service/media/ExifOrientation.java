@@ -0,0 +1,135 @@
+package org.backend.service.media;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads the EXIF orientation tag of a JPEG and applies it to the decoded pixels.
+ *
+ * Re-encoding drops all metadata, including the orientation flag phones rely on instead of
+ * rotating the pixels, so the rotation has to be baked in before the EXIF block is discarded.
+ */
+final class ExifOrientation {
+    static final int NORMAL = 1;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+    // The APP1 segment has to appear before the image data; give up after this many bytes
+    private static final int MAX_HEADER_SCAN = 256 * 1024;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * @return the EXIF orientation (1-8), or {@link #NORMAL} if the file is not a JPEG or carries none
+     */
+    static int read(Path file) {
+        try (InputStream raw = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw))) {
+            if (in.readUnsignedShort() != 0xFFD8) {
+                return NORMAL;
+            }
+            int scanned = 2;
+            while (scanned < MAX_HEADER_SCAN) {
+                int marker = in.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA) {
+                    return NORMAL;
+                }
+                int length = in.readUnsignedShort();
+                if (length < 2) {
+                    return NORMAL;
+                }
+                if (marker == 0xFFE1) {
+                    byte[] segment = new byte[length - 2];
+                    in.readFully(segment);
+                    int orientation = parseApp1(segment);
+                    if (orientation != 0) {
+                        return orientation;
+                    }
+                } else {
+                    in.skipNBytes(length - 2);
+                }
+                scanned += length + 2;
+            }
+        } catch (IOException | RuntimeException e) {
+            // A damaged header only costs the rotation; the image itself is validated when decoded
+        }
+        return NORMAL;
+    }
+
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        if (orientation <= NORMAL || orientation > 8) {
+            return image;
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swapsAxes = orientation >= 5;
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { transform.translate(width, 0); transform.scale(-1, 1); }
+            case 3 -> { transform.translate(width, height); transform.rotate(Math.PI); }
+            case 4 -> { transform.translate(0, height); transform.scale(1, -1); }
+            case 5 -> { transform.rotate(Math.PI / 2); transform.scale(1, -1); }
+            case 6 -> { transform.translate(height, 0); transform.rotate(Math.PI / 2); }
+            case 7 -> { transform.scale(-1, 1); transform.translate(-height, 0); transform.translate(0, width); transform.rotate(3 * Math.PI / 2); }
+            case 8 -> { transform.translate(0, width); transform.rotate(3 * Math.PI / 2); }
+            default -> { return image; }
+        }
+
+        BufferedImage rotated = new BufferedImage(swapsAxes ? height : width, swapsAxes ? width : height,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rotated.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return rotated;
+    }
+
+    private static int parseApp1(byte[] segment) {
+        // "Exif\0\0" followed by a TIFF header
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i' || segment[3] != 'f') {
+            return 0;
+        }
+        int tiff = 6;
+        boolean littleEndian = segment[tiff] == 'I' && segment[tiff + 1] == 'I';
+        int ifdOffset = readInt(segment, tiff + 4, littleEndian);
+        int ifd = tiff + ifdOffset;
+        if (ifdOffset < 8 || ifd + 2 > segment.length) {
+            return 0;
+        }
+
+        int entries = readShort(segment, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > segment.length) {
+                return 0;
+            }
+            if (readShort(segment, entry, littleEndian) == ORIENTATION_TAG) {
+                int value = readShort(segment, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        int b0 = data[offset] & 0xFF;
+        int b1 = data[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] data, int offset, boolean littleEndian) {
+        int high = readShort(data, littleEndian ? offset + 2 : offset, littleEndian);
+        int low = readShort(data, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
@@ -0,0 +1,238 @@
+package org.backend.service.media;
+
+import jakarta.annotation.PreDestroy;
+import org.backend.service.StorageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Off-request image pipeline for user uploads.
+ *
+ * Requests only spool the multipart body to local disk ({@link #spool}); decoding, orientation,
+ * resizing, re-encoding (which drops EXIF, including GPS tags) and the storage upload happen on a
+ * small bounded pool. When the queue is full the submitting thread does the work itself, which
+ * slows uploads down instead of piling up files on disk.
+ */
+@Service
+public class ImageProcessingService {
+    private static final Logger logger = LoggerFactory.getLogger(ImageProcessingService.class);
+
+    // Refuse to decode anything larger; a tiny compressed file can otherwise expand to gigabytes
+    private static final long MAX_PIXELS = 50_000_000L;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final StorageService storageService;
+    private final Path spoolDir;
+    private final int displayMaxEdge;
+    private final int thumbnailMaxEdge;
+    private final ThreadPoolExecutor executor;
+
+    public ImageProcessingService(StorageService storageService,
+                                  @Value("${media.spool-dir:${java.io.tmpdir}/barangay360-uploads}") String spoolDir,
+                                  @Value("${media.workers:2}") int workers,
+                                  @Value("${media.queue-capacity:50}") int queueCapacity,
+                                  @Value("${media.display-max-edge:1600}") int displayMaxEdge,
+                                  @Value("${media.thumbnail-max-edge:400}") int thumbnailMaxEdge) {
+        this.storageService = storageService;
+        this.spoolDir = Paths.get(spoolDir);
+        this.displayMaxEdge = displayMaxEdge;
+        this.thumbnailMaxEdge = thumbnailMaxEdge;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Copy an upload to the spool directory so the request (and its transaction) can finish
+     * without waiting for processing.
+     *
+     * @throws IllegalArgumentException if the upload is not an image
+     */
+    public SpooledUpload spool(MultipartFile file) throws IOException {
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new IllegalArgumentException("Only image uploads are supported");
+        }
+
+        Files.createDirectories(spoolDir);
+        Path target = Files.createTempFile(spoolDir, "upload-", ".tmp");
+        try {
+            file.transferTo(target);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        return new SpooledUpload(target, file.getOriginalFilename());
+    }
+
+    /**
+     * Process a spooled upload on the worker pool. Exactly one of the callbacks runs, on the
+     * worker thread, and the spooled file is removed afterwards either way.
+     *
+     * @param withThumbnail also produce a small variant next to the display-size image
+     */
+    public void process(SpooledUpload upload, String prefix, boolean withThumbnail,
+                        Consumer<ProcessedImage> onSuccess, Consumer<Exception> onFailure) {
+        executor.execute(() -> {
+            try {
+                ProcessedImage result;
+                try {
+                    result = processNow(upload, prefix, withThumbnail);
+                } catch (Exception e) {
+                    logger.error("Image processing failed for {}: {}", upload.getOriginalFilename(), e.getMessage(), e);
+                    onFailure.accept(e);
+                    return;
+                }
+                onSuccess.accept(result);
+            } catch (Exception e) {
+                logger.error("Image processing callback failed for {}: {}", upload.getOriginalFilename(), e.getMessage(), e);
+            } finally {
+                upload.discard();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Image workers did not finish within 30s; {} jobs dropped", executor.shutdownNow().size());
+        }
+    }
+
+    private ProcessedImage processNow(SpooledUpload upload, String prefix, boolean withThumbnail) throws IOException {
+        BufferedImage source = ExifOrientation.apply(decode(upload.getPath()), ExifOrientation.read(upload.getPath()));
+        // Keep transparency for PNG/GIF-style uploads; everything else becomes a compact JPEG
+        boolean keepAlpha = source.getColorModel().hasAlpha();
+        String format = keepAlpha ? "png" : "jpg";
+        String contentType = keepAlpha ? "image/png" : "image/jpeg";
+
+        Path display = encode(scaleToFit(source, displayMaxEdge, keepAlpha), format);
+        Path thumbnail = withThumbnail ? encode(scaleToFit(source, thumbnailMaxEdge, keepAlpha), format) : null;
+        String imageUrl = null;
+        try {
+            imageUrl = storageService.uploadFile(display, contentType, prefix);
+            String thumbnailUrl = thumbnail != null
+                    ? storageService.uploadFile(thumbnail, contentType, thumbnailPrefix(prefix))
+                    : null;
+            return new ProcessedImage(imageUrl, thumbnailUrl);
+        } catch (IOException | RuntimeException e) {
+            if (imageUrl != null) {
+                storageService.deleteFile(imageUrl);
+            }
+            throw e;
+        } finally {
+            Files.deleteIfExists(display);
+            if (thumbnail != null) {
+                Files.deleteIfExists(thumbnail);
+            }
+        }
+    }
+
+    private static BufferedImage decode(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    throw new IOException("Image is too large: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scaleToFit(BufferedImage source, int maxEdge, boolean keepAlpha) {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // Halve repeatedly before the final step; a single bilinear pass from a 12MP photo aliases badly
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2, keepAlpha);
+        }
+        return draw(current, width, height, keepAlpha);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean keepAlpha) {
+        BufferedImage target = new BufferedImage(width, height, keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!keepAlpha) {
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+            }
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private Path encode(BufferedImage image, String format) throws IOException {
+        Path target = Files.createTempFile(spoolDir, "variant-", "." + format);
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            // No metadata is passed along, so nothing from the original file survives
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        return target;
+    }
+
+    private static String thumbnailPrefix(String prefix) {
+        return prefix.endsWith("/") ? prefix + "thumbs" : prefix + "/thumbs";
+    }
+}
@@ -0,0 +1,23 @@
+package org.backend.service.media;
+
+/**
+ * Storage URLs of the variants produced for one upload. {@code thumbnailUrl} is null when no
+ * thumbnail was requested.
+ */
+public final class ProcessedImage {
+    private final String imageUrl;
+    private final String thumbnailUrl;
+
+    ProcessedImage(String imageUrl, String thumbnailUrl) {
+        this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+}
@@ -0,0 +1,37 @@
+package org.backend.service.media;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * An upload that has been copied off the request onto local disk and is waiting to be processed.
+ */
+public final class SpooledUpload {
+    private final Path path;
+    private final String originalFilename;
+
+    SpooledUpload(Path path, String originalFilename) {
+        this.path = path;
+        this.originalFilename = originalFilename;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    /**
+     * Remove the spooled file. Safe to call more than once.
+     */
+    public void discard() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // The spool directory lives under the temp dir; a leftover file is harmless
+        }
+    }
+}
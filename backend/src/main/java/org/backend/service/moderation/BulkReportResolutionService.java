@@ -0,0 +1,162 @@
+package org.backend.service.moderation;
+
+import org.backend.model.Report;
+import org.backend.payload.response.BulkReportResult;
+import org.backend.repository.ReportRepository;
+import org.backend.service.ForumService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Applies one status to many unified reports at once.
+ *
+ * Reports are handled in chunks, each in its own transaction, so a thousand-report request never
+ * holds one long transaction and a failure only rolls back the chunk it happened in. Within a chunk
+ * everything is set-based: one read that locks the reports and one that fetches them, one status
+ * update, one queue update per piece of content, and for approvals one batched delete of the
+ * reported posts and comments.
+ */
+@Service
+public class BulkReportResolutionService {
+    private static final Logger logger = LoggerFactory.getLogger(BulkReportResolutionService.class);
+
+    public static final int MAX_REPORTS = 5000;
+
+    private final ReportRepository reportRepository;
+    private final ForumService forumService;
+    private final ModerationQueueService moderationQueueService;
+    private final ReportStatsService reportStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BulkReportResolutionService(ReportRepository reportRepository, ForumService forumService,
+                                       ModerationQueueService moderationQueueService,
+                                       ReportStatsService reportStatsService,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${moderation.bulk-chunk-size:200}") int chunkSize) {
+        this.reportRepository = reportRepository;
+        this.forumService = forumService;
+        this.moderationQueueService = moderationQueueService;
+        this.reportStatsService = reportStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * @throws IllegalArgumentException if no status is given or too many reports are requested
+     */
+    public BulkReportResult resolve(List<Long> reportIds, Report.ReportStatus status, String rejectionReason) {
+        if (status == null) {
+            throw new IllegalArgumentException("A target status is required");
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(reportIds != null ? reportIds : List.of()));
+        ids.removeIf(Objects::isNull);
+        if (ids.size() > MAX_REPORTS) {
+            throw new IllegalArgumentException("At most " + MAX_REPORTS + " reports can be updated at once");
+        }
+        String reason = rejectionReason != null && !rejectionReason.isBlank() ? rejectionReason : null;
+
+        List<BulkReportResult.Item> items = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            try {
+                items.addAll(transactionTemplate.execute(tx -> resolveChunk(chunk, status, reason)));
+            } catch (Exception e) {
+                logger.error("Bulk report update failed for reports {}..{}: {}",
+                        chunk.get(0), chunk.get(chunk.size() - 1), e.getMessage(), e);
+                chunk.forEach(id -> items.add(new BulkReportResult.Item(id, BulkReportResult.Outcome.FAILED, e.getMessage())));
+            }
+        }
+
+        BulkReportResult result = BulkReportResult.of(status, items);
+        logger.info("Bulk report update to {}: {} updated, {} with content removed, {} not found, {} failed",
+                status, result.getUpdated(), result.getContentRemoved(), result.getNotFound(), result.getFailed());
+        return result;
+    }
+
+    private List<BulkReportResult.Item> resolveChunk(List<Long> ids, Report.ReportStatus status, String reason) {
+        // Read the statuses only once the rows are ours, so a concurrent resolution of the same
+        // reports cannot make both requests count the same move out of PENDING
+        reportRepository.lockForResolution(ids);
+        Map<Long, Object[]> rows = new HashMap<>();
+        for (Object[] row : reportRepository.findResolutionRows(ids)) {
+            rows.put((Long) row[0], row);
+        }
+        List<Long> found = ids.stream().filter(rows::containsKey).toList();
+        LocalDateTime now = LocalDateTime.now();
+        if (!found.isEmpty()) {
+            reportRepository.bulkUpdateStatus(found, status, reason, now);
+        }
+
+        boolean approved = status == Report.ReportStatus.APPROVED;
+        boolean isPending = status == Report.ReportStatus.PENDING;
+        // Reporter of each report entering or leaving PENDING, grouped by the content it is about
+        Map<Report.ReportType, Map<Long, List<Long>>> moved = new LinkedHashMap<>();
+        Set<Long> postIds = new LinkedHashSet<>();
+        Map<Long, Long> commentPosts = new LinkedHashMap<>();
+        Set<Long> removedReports = new LinkedHashSet<>();
+        // Creation time of each report leaving PENDING, for the resolution-time rollup
+        Map<Report.ReportType, List<LocalDateTime>> resolvedCreatedAts = new LinkedHashMap<>();
+
+        for (Long id : found) {
+            Object[] row = rows.get(id);
+            Report.ReportType type = (Report.ReportType) row[1];
+            boolean wasPending = row[2] == Report.ReportStatus.PENDING;
+            if (wasPending && !isPending) {
+                resolvedCreatedAts.computeIfAbsent(type, t -> new ArrayList<>()).add((LocalDateTime) row[7]);
+            }
+            Long contentId = (Long) (type == Report.ReportType.POST ? row[3] : row[4]);
+            if (contentId == null) {
+                // The content is already gone; only the report itself changes
+                continue;
+            }
+            if (approved) {
+                // Removing the content settles its queue entry, so there is nothing to adjust first
+                if (type == Report.ReportType.POST) {
+                    postIds.add(contentId);
+                } else {
+                    commentPosts.put(contentId, (Long) row[5]);
+                }
+                removedReports.add(id);
+            } else if (wasPending != isPending) {
+                moved.computeIfAbsent(type, t -> new LinkedHashMap<>())
+                        .computeIfAbsent(contentId, c -> new ArrayList<>())
+                        .add((Long) row[6]);
+            }
+        }
+
+        resolvedCreatedAts.forEach((type, createdAts) ->
+                reportStatsService.reportsResolved(type, approved, createdAts, now));
+        moved.forEach((type, byContent) -> byContent.forEach((contentId, reporterIds) ->
+                moderationQueueService.reportsStatusChanged(type, contentId, reporterIds, isPending)));
+        if (approved) {
+            // Comments under a post that is being removed go with it
+            commentPosts.values().removeIf(postIds::contains);
+            forumService.deletePostsForModeration(postIds);
+            forumService.deleteCommentsForModeration(commentPosts.keySet());
+        }
+
+        List<BulkReportResult.Item> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            BulkReportResult.Outcome outcome = !rows.containsKey(id) ? BulkReportResult.Outcome.NOT_FOUND
+                    : removedReports.contains(id) ? BulkReportResult.Outcome.CONTENT_REMOVED
+                    : BulkReportResult.Outcome.UPDATED;
+            items.add(new BulkReportResult.Item(id, outcome, null));
+        }
+        return items;
+    }
+}
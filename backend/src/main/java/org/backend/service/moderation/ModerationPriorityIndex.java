@@ -0,0 +1,189 @@
+package org.backend.service.moderation;
+
+import org.backend.model.Report;
+import org.backend.payload.response.ModerationPriorityItem;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory view of the pending moderation queue with everything needed to prioritize it:
+ * pending report count, distinct reporters, content age and the author's warning count.
+ *
+ * The pending set is small (hundreds of items, not the whole forum) and the age term changes
+ * continuously, so items are scored and sorted when read rather than kept in a sorted structure.
+ * ModerationQueueService rebuilds it from the database on startup and applies each report write
+ * and resolution after commit.
+ */
+@Component
+public class ModerationPriorityIndex {
+    // Several people reporting the same thing is a much stronger signal than one person reporting it repeatedly
+    private static final double REPORTER_WEIGHT = 3.0;
+    private static final double REPORT_WEIGHT = 1.0;
+    private static final double WARNING_WEIGHT = 0.75;
+    private static final int MAX_COUNTED_WARNINGS = 3;
+    // Fresh content is still being seen by residents; the boost halves every 12 hours
+    private static final double FRESHNESS_WEIGHT = 2.0;
+    private static final double FRESHNESS_HALF_LIFE_HOURS = 12.0;
+
+    private final Map<String, Item> items = new HashMap<>();
+    private boolean stale = true;
+
+    public synchronized boolean isStale() {
+        return stale;
+    }
+
+    public synchronized void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Replace the whole index. {@code reporters} holds (contentType, contentId, reporterId) for
+     * every pending report; it may list the same reporter more than once.
+     */
+    public synchronized void replaceAll(List<Item> pending, List<Object[]> reporters) {
+        items.clear();
+        for (Item item : pending) {
+            items.put(key(item.contentType, item.contentId), item);
+        }
+        for (Object[] row : reporters) {
+            Item item = items.get(key(Report.ReportType.valueOf((String) row[0]), ((Number) row[1]).longValue()));
+            if (item != null) {
+                item.reporters.merge(((Number) row[2]).longValue(), 1, Integer::sum);
+            }
+        }
+        stale = false;
+    }
+
+    public synchronized void reportFiled(Report.ReportType contentType, Long contentId, Long postId, Long authorId,
+                                         int authorWarnings, LocalDateTime contentCreatedAt, Long reporterId) {
+        Item item = items.computeIfAbsent(key(contentType, contentId),
+                k -> new Item(contentType, contentId, postId, authorId, authorWarnings, contentCreatedAt, 0));
+        item.pendingCount++;
+        item.authorWarnings = authorWarnings;
+        if (reporterId != null) {
+            item.reporters.merge(reporterId, 1, Integer::sum);
+        }
+    }
+
+    public synchronized void reportResolved(Report.ReportType contentType, Long contentId, Long reporterId) {
+        String key = key(contentType, contentId);
+        Item item = items.get(key);
+        if (item == null) {
+            return;
+        }
+        item.pendingCount--;
+        if (reporterId != null) {
+            item.reporters.computeIfPresent(reporterId, (id, count) -> count > 1 ? count - 1 : null);
+        }
+        if (item.pendingCount <= 0) {
+            items.remove(key);
+        }
+    }
+
+    public synchronized void contentRemoved(Report.ReportType contentType, Long contentId) {
+        items.remove(key(contentType, contentId));
+    }
+
+    /**
+     * Drop a post and every reported comment under it.
+     */
+    public synchronized void postRemoved(Long postId) {
+        items.values().removeIf(item -> Objects.equals(item.postId, postId));
+    }
+
+    public synchronized void authorWarned(Long authorId, int warnings) {
+        for (Item item : items.values()) {
+            if (Objects.equals(item.authorId, authorId)) {
+                item.authorWarnings = warnings;
+            }
+        }
+    }
+
+    public synchronized void claimed(Report.ReportType contentType, Long contentId, Long userId, LocalDateTime claimedAt) {
+        Item item = items.get(key(contentType, contentId));
+        if (item != null) {
+            item.claimedBy = userId;
+            item.claimedAt = claimedAt;
+        }
+    }
+
+    public synchronized void released(Report.ReportType contentType, Long contentId) {
+        claimed(contentType, contentId, null, null);
+    }
+
+    /**
+     * @return every pending item, highest priority first
+     */
+    public synchronized List<ModerationPriorityItem> ranked(LocalDateTime now) {
+        List<ModerationPriorityItem> ranked = new ArrayList<>(items.size());
+        for (Item item : items.values()) {
+            ranked.add(new ModerationPriorityItem(item.contentType, item.contentId, item.postId, item.authorId,
+                    item.pendingCount, item.reporters.size(), item.authorWarnings, item.contentCreatedAt,
+                    score(item, now), item.claimedBy, item.claimedAt));
+        }
+        ranked.sort(Comparator.comparingDouble(ModerationPriorityItem::getScore).reversed()
+                .thenComparing(ModerationPriorityItem::getContentId));
+        return ranked;
+    }
+
+    public synchronized int size() {
+        return items.size();
+    }
+
+    static double score(Item item, LocalDateTime now) {
+        double score = REPORTER_WEIGHT * Math.log1p(item.reporters.size())
+                + REPORT_WEIGHT * Math.log1p(Math.max(0, item.pendingCount))
+                + WARNING_WEIGHT * Math.min(item.authorWarnings, MAX_COUNTED_WARNINGS);
+        if (item.contentCreatedAt != null) {
+            double ageHours = Math.max(0, Duration.between(item.contentCreatedAt, now).toMinutes() / 60.0);
+            score += FRESHNESS_WEIGHT * Math.pow(2.0, -ageHours / FRESHNESS_HALF_LIFE_HOURS);
+        }
+        return score;
+    }
+
+    private static String key(Report.ReportType contentType, Long contentId) {
+        return contentType.name() + ":" + contentId;
+    }
+
+    /**
+     * One pending piece of content. Mutable, but only touched under the index lock.
+     */
+    public static final class Item {
+        private final Report.ReportType contentType;
+        private final Long contentId;
+        private final Long postId;
+        private final Long authorId;
+        private final LocalDateTime contentCreatedAt;
+        // Reporter id -> number of their pending reports on this content
+        private final Map<Long, Integer> reporters = new HashMap<>();
+        private int authorWarnings;
+        private int pendingCount;
+        private Long claimedBy;
+        private LocalDateTime claimedAt;
+
+        public Item(Report.ReportType contentType, Long contentId, Long postId, Long authorId, int authorWarnings,
+                    LocalDateTime contentCreatedAt, int pendingCount) {
+            this.contentType = contentType;
+            this.contentId = contentId;
+            this.postId = postId;
+            this.authorId = authorId;
+            this.authorWarnings = authorWarnings;
+            this.contentCreatedAt = contentCreatedAt;
+            this.pendingCount = pendingCount;
+        }
+
+        public Item claimedBy(Long userId, LocalDateTime at) {
+            this.claimedBy = userId;
+            this.claimedAt = at;
+            return this;
+        }
+    }
+}
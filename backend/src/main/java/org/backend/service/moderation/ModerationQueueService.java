@@ -0,0 +1,337 @@
+package org.backend.service.moderation;
+
+import org.backend.model.ForumComment;
+import org.backend.model.ForumPost;
+import org.backend.model.ModerationQueueItem;
+import org.backend.model.Report;
+import org.backend.model.User;
+import org.backend.payload.request.FeedCursor;
+import org.backend.payload.response.CursorPage;
+import org.backend.payload.response.ModerationPriorityItem;
+import org.backend.repository.CommentReportRepository;
+import org.backend.repository.ModerationQueueRepository;
+import org.backend.repository.PostReportRepository;
+import org.backend.repository.ReportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maintains the moderation_queue read model and serves the admin queue from it, plus the
+ * in-memory {@link ModerationPriorityIndex} used to hand out work by priority.
+ *
+ * Every report write and resolution, whichever of the three report tables it goes to, calls in
+ * here inside the same transaction, so the queue never disagrees with the reports behind it.
+ */
+@Service
+public class ModerationQueueService {
+    private static final Logger logger = LoggerFactory.getLogger(ModerationQueueService.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int PREVIEW_LENGTH = 200;
+    // claimNext gives up after losing this many races in a row and lets the caller retry
+    private static final int MAX_CLAIM_ATTEMPTS = 10;
+
+    private final ModerationQueueRepository queueRepository;
+    private final ReportRepository reportRepository;
+    private final PostReportRepository postReportRepository;
+    private final CommentReportRepository commentReportRepository;
+    private final ModerationPriorityIndex priorityIndex;
+    private final Duration claimTtl;
+
+    public ModerationQueueService(ModerationQueueRepository queueRepository, ReportRepository reportRepository,
+                                  PostReportRepository postReportRepository, CommentReportRepository commentReportRepository,
+                                  ModerationPriorityIndex priorityIndex,
+                                  @Value("${moderation.claim-ttl-minutes:15}") long claimTtlMinutes) {
+        this.queueRepository = queueRepository;
+        this.reportRepository = reportRepository;
+        this.postReportRepository = postReportRepository;
+        this.commentReportRepository = commentReportRepository;
+        this.priorityIndex = priorityIndex;
+        this.claimTtl = Duration.ofMinutes(claimTtlMinutes);
+    }
+
+    @Transactional
+    public void postReported(ForumPost post, String reason, Long reporterId) {
+        User author = post.getAuthor();
+        queueRepository.upsertReport(Report.ReportType.POST.name(), post.getId(), post.getId(),
+                preview(post.getTitle()), author != null ? author.getUsername() : null,
+                reason, LocalDateTime.now());
+        afterCommit(() -> priorityIndex.reportFiled(Report.ReportType.POST, post.getId(), post.getId(),
+                author != null ? author.getId() : null, author != null ? author.getWarnings() : 0,
+                post.getCreatedAt(), reporterId));
+    }
+
+    @Transactional
+    public void commentReported(ForumComment comment, String reason, Long reporterId) {
+        User author = comment.getAuthor();
+        Long postId = comment.getPost().getId();
+        queueRepository.upsertReport(Report.ReportType.COMMENT.name(), comment.getId(), postId,
+                preview(comment.getContent()), author != null ? author.getUsername() : null,
+                reason, LocalDateTime.now());
+        afterCommit(() -> priorityIndex.reportFiled(Report.ReportType.COMMENT, comment.getId(), postId,
+                author != null ? author.getId() : null, author != null ? author.getWarnings() : 0,
+                comment.getCreatedAt(), reporterId));
+    }
+
+    /**
+     * Record a status change of one report. Only moves into or out of PENDING affect the queue.
+     */
+    @Transactional
+    public void reportStatusChanged(Report.ReportType contentType, Long contentId, Long reporterId,
+                                    boolean wasPending, boolean isPending) {
+        if (wasPending == isPending) {
+            return;
+        }
+        queueRepository.adjustPending(contentType.name(), contentId, isPending ? 1 : -1, LocalDateTime.now());
+        if (isPending) {
+            // Reopening is rare and the index may no longer hold the item; reload it on the next read
+            afterCommit(priorityIndex::invalidate);
+        } else {
+            afterCommit(() -> priorityIndex.reportResolved(contentType, contentId, reporterId));
+        }
+    }
+
+    /**
+     * Record a batch of reports on one piece of content leaving PENDING (or returning to it), with
+     * a single queue update. {@code reporterIds} holds one entry per report.
+     */
+    @Transactional
+    public void reportsStatusChanged(Report.ReportType contentType, Long contentId, List<Long> reporterIds,
+                                     boolean isPending) {
+        if (reporterIds.isEmpty()) {
+            return;
+        }
+        int delta = isPending ? reporterIds.size() : -reporterIds.size();
+        queueRepository.adjustPending(contentType.name(), contentId, delta, LocalDateTime.now());
+        if (isPending) {
+            afterCommit(priorityIndex::invalidate);
+        } else {
+            afterCommit(() -> reporterIds.forEach(reporterId -> priorityIndex.reportResolved(contentType, contentId, reporterId)));
+        }
+    }
+
+    @Transactional
+    public void postsRemoved(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        queueRepository.markPostsRemoved(postIds, LocalDateTime.now());
+        afterCommit(() -> postIds.forEach(priorityIndex::postRemoved));
+    }
+
+    @Transactional
+    public void commentsRemoved(Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return;
+        }
+        queueRepository.markCommentsRemoved(commentIds, LocalDateTime.now());
+        afterCommit(() -> commentIds.forEach(commentId -> priorityIndex.contentRemoved(Report.ReportType.COMMENT, commentId)));
+    }
+
+    public void authorWarned(Long authorId, int warnings) {
+        priorityIndex.authorWarned(authorId, warnings);
+    }
+
+    /**
+     * The pending queue ordered by priority, answered from the in-memory index.
+     */
+    public List<ModerationPriorityItem> getPriorityQueue(int limit) {
+        List<ModerationPriorityItem> ranked = rankedItems();
+        return ranked.subList(0, Math.min(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)), ranked.size()));
+    }
+
+    /**
+     * Claim the highest-priority item nobody else is working on.
+     *
+     * @return the claimed item, or empty when every pending item is claimed
+     */
+    @Transactional
+    public Optional<ModerationPriorityItem> claimNext(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiredBefore = now.minus(claimTtl);
+        int attempts = 0;
+        for (ModerationPriorityItem item : rankedItems()) {
+            boolean claimedByOther = item.getClaimedBy() != null && !item.getClaimedBy().equals(userId)
+                    && item.getClaimedAt() != null && item.getClaimedAt().isAfter(expiredBefore);
+            if (claimedByOther) {
+                continue;
+            }
+            if (tryClaim(item.getContentType(), item.getContentId(), userId, now, expiredBefore)) {
+                item.setClaimedBy(userId);
+                item.setClaimedAt(now);
+                return Optional.of(item);
+            }
+            // Lost the race; the index has not heard about the winner's claim yet
+            if (++attempts >= MAX_CLAIM_ATTEMPTS) {
+                break;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Claim a specific item.
+     *
+     * @return false if another official holds an unexpired claim or the item is no longer pending
+     */
+    @Transactional
+    public boolean claim(Report.ReportType contentType, Long contentId, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return tryClaim(contentType, contentId, userId, now, now.minus(claimTtl));
+    }
+
+    @Transactional
+    public boolean release(Report.ReportType contentType, Long contentId, Long userId) {
+        boolean released = queueRepository.release(contentType.name(), contentId, userId) > 0;
+        if (released) {
+            afterCommit(() -> priorityIndex.released(contentType, contentId));
+        }
+        return released;
+    }
+
+    /**
+     * Reload the priority index from moderation_queue and the pending reports.
+     */
+    @Transactional(readOnly = true)
+    public void rebuildPriorityIndex() {
+        List<ModerationPriorityIndex.Item> items = new ArrayList<>();
+        for (Object[] row : queueRepository.findPendingPriorityRows()) {
+            items.add(new ModerationPriorityIndex.Item(
+                    Report.ReportType.valueOf((String) row[0]),
+                    ((Number) row[1]).longValue(),
+                    row[2] != null ? ((Number) row[2]).longValue() : null,
+                    row[3] != null ? ((Number) row[3]).longValue() : null,
+                    row[4] != null ? ((Number) row[4]).intValue() : 0,
+                    toLocalDateTime(row[5]),
+                    ((Number) row[6]).intValue())
+                    .claimedBy(row[7] != null ? ((Number) row[7]).longValue() : null, toLocalDateTime(row[8])));
+        }
+        priorityIndex.replaceAll(items, queueRepository.findPendingReporters());
+        logger.info("Loaded moderation priority index with {} pending items", items.size());
+    }
+
+    private List<ModerationPriorityItem> rankedItems() {
+        if (priorityIndex.isStale()) {
+            rebuildPriorityIndex();
+        }
+        return priorityIndex.ranked(LocalDateTime.now());
+    }
+
+    private boolean tryClaim(Report.ReportType contentType, Long contentId, Long userId,
+                             LocalDateTime now, LocalDateTime expiredBefore) {
+        if (queueRepository.claim(contentType.name(), contentId, userId, now, expiredBefore) == 0) {
+            return false;
+        }
+        afterCommit(() -> priorityIndex.claimed(contentType, contentId, userId, now));
+        return true;
+    }
+
+    /**
+     * One page of the queue, most recently reported first.
+     *
+     * @param status only rows in this state, or null for all
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ModerationQueueItem> getQueue(ModerationQueueItem.Status status, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, pageSize);
+        FeedCursor after = (cursor == null || cursor.isBlank()) ? null : FeedCursor.decode(cursor);
+
+        Slice<ModerationQueueItem> slice;
+        if (status == null) {
+            slice = after == null
+                    ? queueRepository.findQueue(pageable)
+                    : queueRepository.findQueueAfter(after.getCreatedAt(), after.getId(), pageable);
+        } else {
+            slice = after == null
+                    ? queueRepository.findQueueByStatus(status, pageable)
+                    : queueRepository.findQueueByStatusAfter(status, after.getCreatedAt(), after.getId(), pageable);
+        }
+
+        List<ModerationQueueItem> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            ModerationQueueItem last = content.get(content.size() - 1);
+            nextCursor = new FeedCursor(last.getLastReportedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor, slice.hasNext(), content.size());
+    }
+
+    /**
+     * Recompute the whole queue from the report tables.
+     */
+    @Transactional
+    public Map<String, Object> rebuild() {
+        long started = System.currentTimeMillis();
+        int removed = queueRepository.deleteAllRows();
+        int inserted = queueRepository.rebuildFromReports();
+        logger.info("Rebuilt moderation queue: {} rows (replaced {}) in {} ms", inserted, removed, System.currentTimeMillis() - started);
+        afterCommit(priorityIndex::invalidate);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rows", inserted);
+        result.put("replaced", removed);
+        result.put("tookMs", System.currentTimeMillis() - started);
+        return result;
+    }
+
+    /**
+     * Backfill the queue the first time it runs against a database that already has reports.
+     */
+    @Transactional
+    public void backfillIfEmpty() {
+        if (queueRepository.count() > 0) {
+            return;
+        }
+        if (reportRepository.count() + postReportRepository.count() + commentReportRepository.count() == 0) {
+            return;
+        }
+        rebuild();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Timestamp ? ((Timestamp) value).toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    private static String preview(String text) {
+        if (text == null) {
+            return null;
+        }
+        return text.length() <= PREVIEW_LENGTH ? text : text.substring(0, PREVIEW_LENGTH - 3) + "...";
+    }
+}
@@ -0,0 +1,87 @@
+package org.backend.service.moderation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over (kind, contentId, reporterId) triples.
+ *
+ * {@link #mightContain} never returns false for a triple that was {@link #put}, and returns true
+ * for an absent one with roughly the configured false-positive rate while no more than the
+ * expected number of triples has been added. Bits live in an {@link AtomicLongArray}, so reads
+ * and writes need no lock.
+ */
+final class ReportBloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+    private final AtomicLong insertions = new AtomicLong();
+
+    ReportBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        this.capacity = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / capacity * LN2));
+    }
+
+    void put(int kind, long contentId, long reporterId) {
+        long h1 = hash(kind, contentId, reporterId);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.getAndUpdate(word, value -> value | mask);
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(int kind, long contentId, long reporterId) {
+        long h1 = hash(kind, contentId, reporterId);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true once more triples have been added than the filter was sized for, after which
+     *         the false-positive rate climbs quickly
+     */
+    boolean isSaturated() {
+        return insertions.get() > capacity;
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    private static long hash(int kind, long contentId, long reporterId) {
+        return mix(mix(contentId + kind * 0x632BE59BD9B4E019L) + reporterId);
+    }
+
+    // SplitMix64 finalizer: spreads sequential ids over all 64 bits
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,131 @@
+package org.backend.service.moderation;
+
+import org.backend.model.Report;
+import org.backend.repository.CommentReportRepository;
+import org.backend.repository.PostReportRepository;
+import org.backend.repository.ReportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Remembers which users have already reported which post or comment, so the report endpoints can
+ * tell a first report from a repeat without asking the database.
+ *
+ * A "no" from {@link #mightHaveReported} is definite and the report is inserted straight away; a
+ * "maybe" costs one indexed lookup for the existing report. The unique constraints on the report
+ * tables stay the source of truth: a pair the filter missed (added while it was being rebuilt,
+ * say) only means the insert comes back as a no-op and the existing report is read instead.
+ */
+@Component
+public class ReportDuplicateFilter {
+    private static final Logger logger = LoggerFactory.getLogger(ReportDuplicateFilter.class);
+
+    public enum Kind {
+        POST_REPORT,
+        COMMENT_REPORT,
+        UNIFIED_POST,
+        UNIFIED_COMMENT
+    }
+
+    private final PostReportRepository postReportRepository;
+    private final CommentReportRepository commentReportRepository;
+    private final ReportRepository reportRepository;
+    private final long expectedReports;
+    private final double falsePositiveRate;
+
+    private volatile ReportBloomFilter filter;
+    // Until the first load every pair is a "maybe", which is always safe
+    private volatile boolean loaded;
+
+    public ReportDuplicateFilter(PostReportRepository postReportRepository,
+                                 CommentReportRepository commentReportRepository,
+                                 ReportRepository reportRepository,
+                                 @Value("${moderation.report-filter.expected-reports:100000}") long expectedReports,
+                                 @Value("${moderation.report-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.postReportRepository = postReportRepository;
+        this.commentReportRepository = commentReportRepository;
+        this.reportRepository = reportRepository;
+        this.expectedReports = expectedReports;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new ReportBloomFilter(expectedReports, falsePositiveRate);
+    }
+
+    public boolean mightHaveReported(Kind kind, Long contentId, Long reporterId) {
+        return !loaded || filter.mightContain(kind.ordinal(), contentId, reporterId);
+    }
+
+    public void reported(Kind kind, Long contentId, Long reporterId) {
+        filter.put(kind.ordinal(), contentId, reporterId);
+    }
+
+    /**
+     * Remove duplicate reports written before the unique constraints existed, keeping the oldest
+     * of each pair, and make sure the constraints are in place. Schema update tries to add them
+     * before this runs and gives up quietly when duplicates are present.
+     *
+     * @return the number of reports removed
+     */
+    @Transactional
+    public int removeDuplicates() {
+        int posts = postReportRepository.deleteDuplicates();
+        int comments = commentReportRepository.deleteDuplicates();
+        int unified = reportRepository.deleteDuplicates();
+        postReportRepository.ensureUniqueIndex();
+        commentReportRepository.ensureUniqueIndex();
+        reportRepository.ensurePostUniqueIndex();
+        reportRepository.ensureCommentUniqueIndex();
+        if (posts + comments + unified > 0) {
+            logger.info("Removed {} duplicate post reports, {} duplicate comment reports and {} duplicate reports",
+                    posts, comments, unified);
+        }
+        return posts + comments + unified;
+    }
+
+    /**
+     * Reload the filter from the report tables, sized for at least twice the current count.
+     */
+    public void rebuild() {
+        List<Object[]> postPairs = postReportRepository.findReporterPairs();
+        List<Object[]> commentPairs = commentReportRepository.findReporterPairs();
+        List<Object[]> unifiedPairs = reportRepository.findReporterPairs();
+        long total = postPairs.size() + commentPairs.size() + unifiedPairs.size();
+
+        ReportBloomFilter rebuilt = new ReportBloomFilter(Math.max(expectedReports, total * 2), falsePositiveRate);
+        for (Object[] row : postPairs) {
+            rebuilt.put(Kind.POST_REPORT.ordinal(), (Long) row[0], (Long) row[1]);
+        }
+        for (Object[] row : commentPairs) {
+            rebuilt.put(Kind.COMMENT_REPORT.ordinal(), (Long) row[0], (Long) row[1]);
+        }
+        for (Object[] row : unifiedPairs) {
+            boolean post = row[0] == Report.ReportType.POST;
+            Long contentId = (Long) (post ? row[1] : row[2]);
+            if (contentId != null) {
+                rebuilt.put((post ? Kind.UNIFIED_POST : Kind.UNIFIED_COMMENT).ordinal(), contentId, (Long) row[3]);
+            }
+        }
+        filter = rebuilt;
+        loaded = true;
+        logger.info("Loaded {} reporter pairs into the duplicate report filter (capacity {})", total, rebuilt.capacity());
+    }
+
+    @Scheduled(fixedDelayString = "${moderation.report-filter.check-interval-ms:3600000}",
+               initialDelayString = "${moderation.report-filter.check-interval-ms:3600000}")
+    public void rebuildIfSaturated() {
+        if (loaded && filter.isSaturated()) {
+            logger.info("Duplicate report filter holds {} pairs, over its capacity of {}; rebuilding",
+                    filter.insertions(), filter.capacity());
+            try {
+                rebuild();
+            } catch (Exception e) {
+                logger.error("Failed to rebuild duplicate report filter: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
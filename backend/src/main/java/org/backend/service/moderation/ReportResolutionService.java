@@ -0,0 +1,66 @@
+package org.backend.service.moderation;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.backend.model.Report;
+import org.backend.repository.ReportRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Changes the status of a single unified report.
+ *
+ * The report, its moderation queue entry and the resolution rollups are updated in one
+ * transaction, so they commit or roll back together. The report row is locked before its old
+ * status is read, the same way {@link BulkReportResolutionService} locks a chunk, so a status
+ * change racing another is counted once.
+ */
+@Service
+public class ReportResolutionService {
+
+    private final ReportRepository reportRepository;
+    private final ModerationQueueService moderationQueueService;
+    private final ReportStatsService reportStatsService;
+
+    public ReportResolutionService(ReportRepository reportRepository, ModerationQueueService moderationQueueService,
+                                   ReportStatsService reportStatsService) {
+        this.reportRepository = reportRepository;
+        this.moderationQueueService = moderationQueueService;
+        this.reportStatsService = reportStatsService;
+    }
+
+    /**
+     * @throws EntityNotFoundException if there is no such report
+     */
+    @Transactional
+    public Report updateStatus(Long reportId, Report.ReportStatus status, String rejectionReason) {
+        if (reportRepository.lockForResolution(List.of(reportId)).isEmpty()) {
+            throw new EntityNotFoundException("Report not found with ID: " + reportId);
+        }
+        Report report = reportRepository.findById(reportId)
+                .orElseThrow(() -> new EntityNotFoundException("Report not found with ID: " + reportId));
+
+        Report.ReportStatus oldStatus = report.getStatus();
+        report.setStatus(status);
+        Long contentId = report.getType() == Report.ReportType.POST
+                ? (report.getPost() != null ? report.getPost().getId() : null)
+                : (report.getComment() != null ? report.getComment().getId() : null);
+        if (contentId != null) {
+            moderationQueueService.reportStatusChanged(report.getType(), contentId, report.getReporter().getId(),
+                    oldStatus == Report.ReportStatus.PENDING, status == Report.ReportStatus.PENDING);
+        }
+
+        if (rejectionReason != null && !rejectionReason.isEmpty()) {
+            report.setRejectionReason(rejectionReason);
+        }
+
+        report.setResolvedAt(LocalDateTime.now());
+        if (oldStatus == Report.ReportStatus.PENDING && status != Report.ReportStatus.PENDING) {
+            reportStatsService.reportResolved(report.getType(), status == Report.ReportStatus.APPROVED,
+                    report.getCreatedAt(), report.getResolvedAt());
+        }
+        return reportRepository.save(report);
+    }
+}
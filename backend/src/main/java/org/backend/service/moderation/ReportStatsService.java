@@ -0,0 +1,148 @@
+package org.backend.service.moderation;
+
+import org.backend.model.Report;
+import org.backend.model.ReportAuthorStats;
+import org.backend.model.ReportDailyStats;
+import org.backend.model.User;
+import org.backend.payload.response.ReportStatsResponse;
+import org.backend.repository.ReportAuthorStatsRepository;
+import org.backend.repository.ReportDailyStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Report analytics served from the report_daily_stats and report_author_stats rollups.
+ *
+ * Each report write and resolution adds to its day's bucket in the same transaction, so a
+ * dashboard read touches at most two rows per day in the window plus the top authors, however
+ * many reports there are. Reopening a resolved report does not take its resolution back out.
+ */
+@Service
+public class ReportStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(ReportStatsService.class);
+
+    public static final int MAX_DAYS = 366;
+    public static final int MAX_AUTHORS = 50;
+
+    private final ReportDailyStatsRepository dailyRepository;
+    private final ReportAuthorStatsRepository authorRepository;
+
+    public ReportStatsService(ReportDailyStatsRepository dailyRepository, ReportAuthorStatsRepository authorRepository) {
+        this.dailyRepository = dailyRepository;
+        this.authorRepository = authorRepository;
+    }
+
+    @Transactional
+    public void reportFiled(Report.ReportType contentType, User author, LocalDateTime reportedAt) {
+        dailyRepository.increment(reportedAt.toLocalDate(), contentType.name(), 1, 0, 0, 0, LocalDateTime.now());
+        if (author != null) {
+            authorRepository.increment(author.getId(), author.getUsername(), reportedAt);
+        }
+    }
+
+    /**
+     * Record a report leaving PENDING.
+     */
+    @Transactional
+    public void reportResolved(Report.ReportType contentType, boolean approved, LocalDateTime createdAt,
+                               LocalDateTime resolvedAt) {
+        reportsResolved(contentType, approved, List.of(createdAt), resolvedAt);
+    }
+
+    /**
+     * Record several reports of one content type leaving PENDING at the same moment, with a single
+     * bucket update. {@code createdAts} holds the creation time of each report.
+     */
+    @Transactional
+    public void reportsResolved(Report.ReportType contentType, boolean approved, List<LocalDateTime> createdAts,
+                                LocalDateTime resolvedAt) {
+        if (createdAts.isEmpty()) {
+            return;
+        }
+        long seconds = 0;
+        for (LocalDateTime createdAt : createdAts) {
+            if (createdAt != null) {
+                seconds += Math.max(0, Duration.between(createdAt, resolvedAt).getSeconds());
+            }
+        }
+        long count = createdAts.size();
+        dailyRepository.increment(resolvedAt.toLocalDate(), contentType.name(), 0,
+                approved ? count : 0, approved ? 0 : count, seconds, LocalDateTime.now());
+    }
+
+    public ReportStatsResponse getStats(int days, int topAuthors) {
+        int window = Math.max(1, Math.min(days, MAX_DAYS));
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(window - 1L);
+
+        List<ReportStatsResponse.Day> buckets = new ArrayList<>();
+        long reported = 0;
+        long approved = 0;
+        long rejected = 0;
+        long seconds = 0;
+        for (ReportDailyStats row : dailyRepository.findByDayGreaterThanEqualOrderByDayAsc(from)) {
+            buckets.add(new ReportStatsResponse.Day(row.getDay(), row.getContentType(), row.getReportedCount(),
+                    row.getApprovedCount(), row.getRejectedCount(),
+                    mean(row.getResolutionSeconds(), row.getApprovedCount() + row.getRejectedCount())));
+            reported += row.getReportedCount();
+            approved += row.getApprovedCount();
+            rejected += row.getRejectedCount();
+            seconds += row.getResolutionSeconds();
+        }
+
+        List<ReportStatsResponse.Author> authors = new ArrayList<>();
+        int limit = Math.max(1, Math.min(topAuthors, MAX_AUTHORS));
+        for (ReportAuthorStats row : authorRepository.findTop(PageRequest.of(0, limit))) {
+            authors.add(new ReportStatsResponse.Author(row.getAuthorId(), row.getAuthorUsername(),
+                    row.getReportCount(), row.getLastReportedAt()));
+        }
+
+        return new ReportStatsResponse(from, to, reported, approved, rejected, mean(seconds, approved + rejected),
+                buckets, authors);
+    }
+
+    /**
+     * Recompute both rollups from the report tables.
+     */
+    @Transactional
+    public Map<String, Object> rebuild() {
+        long started = System.currentTimeMillis();
+        dailyRepository.deleteAllRows();
+        authorRepository.deleteAllRows();
+        int buckets = dailyRepository.rebuildFromReports();
+        int authors = authorRepository.rebuildFromReports();
+        logger.info("Rebuilt report stats: {} daily buckets and {} authors in {} ms",
+                buckets, authors, System.currentTimeMillis() - started);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("dailyBuckets", buckets);
+        result.put("authors", authors);
+        result.put("tookMs", System.currentTimeMillis() - started);
+        return result;
+    }
+
+    /**
+     * Backfill the rollups the first time they run against a database that already has reports.
+     */
+    @Transactional
+    public void backfillIfEmpty() {
+        if (dailyRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    private static Long mean(long totalSeconds, long count) {
+        return count > 0 ? totalSeconds / count : null;
+    }
+}
@@ -0,0 +1,152 @@
+package org.backend.service.realtime;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends STOMP messages for changes only once they are committed, and off the caller's thread.
+ *
+ * Inside a transaction, events are buffered on the transaction and handed over when it commits;
+ * a rollback discards them. Outside one they are handed over straight away. Handed-over events wait
+ * in one queue that a single dispatcher thread drains in order, so the broker send never adds to a
+ * transaction or a request.
+ *
+ * An event published with a coalescing key, such as "service-request:42", replaces any event with
+ * the same key and destination that has not been sent yet, whether from the same transaction or an
+ * earlier one, so a burst of changes to one entity reaches clients as its latest state only. Events
+ * without a key are all sent.
+ *
+ * Delivery is best effort: events still queued when the application stops are lost, and clients
+ * are expected to resync from the REST API when they reconnect.
+ */
+@Service
+public class RealtimeEventPublisher {
+    private static final Logger logger = LoggerFactory.getLogger(RealtimeEventPublisher.class);
+
+    // A null user means a broadcast; a key that is not a String is never equal to another one
+    private record Target(String user, String destination, Object key) {
+    }
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ExecutorService dispatcher;
+    private final Object lock = new Object();
+
+    private LinkedHashMap<Target, Object> pending = new LinkedHashMap<>();
+    private boolean drainScheduled;
+
+    public RealtimeEventPublisher(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "realtime-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void publish(String destination, Object payload) {
+        add(new Target(null, destination, new Object()), payload);
+    }
+
+    public void publish(String destination, String coalesceKey, Object payload) {
+        add(new Target(null, destination, coalesceKey), payload);
+    }
+
+    /**
+     * Send to one user's sessions; {@code destination} is the queue without the /user prefix.
+     */
+    public void publishToUser(String user, String destination, String coalesceKey, Object payload) {
+        add(new Target(user, destination, coalesceKey), payload);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatcher.shutdown();
+        if (!dispatcher.awaitTermination(5, TimeUnit.SECONDS)) {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private void add(Target target, Object payload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(Map.of(target, payload));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        LinkedHashMap<Target, Object> buffer = (LinkedHashMap<Target, Object>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            LinkedHashMap<Target, Object> events = new LinkedHashMap<>();
+            buffer = events;
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // Not afterCommit: a synchronization registered while others run their afterCommit
+                // callbacks misses that phase, but still gets afterCompletion
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RealtimeEventPublisher.this);
+                    if (status == STATUS_COMMITTED) {
+                        enqueue(events);
+                    }
+                }
+            });
+        }
+        put(buffer, target, payload);
+    }
+
+    private void enqueue(Map<Target, Object> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            events.forEach((target, payload) -> put(pending, target, payload));
+            if (drainScheduled) {
+                return;
+            }
+            drainScheduled = true;
+        }
+        try {
+            dispatcher.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Dispatcher stopped; dropping {} realtime events", events.size());
+        }
+    }
+
+    private void drain() {
+        Map<Target, Object> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            drainScheduled = false;
+        }
+        batch.forEach(this::send);
+    }
+
+    private void send(Target target, Object payload) {
+        try {
+            if (target.user() != null) {
+                messagingTemplate.convertAndSendToUser(target.user(), target.destination(), payload);
+            } else {
+                messagingTemplate.convertAndSend(target.destination(), payload);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to publish to {}: {}", target.destination(), e.getMessage());
+        }
+    }
+
+    // The newest event for a key goes to the back, so events keep the order of their latest change
+    private static void put(Map<Target, Object> events, Target target, Object payload) {
+        events.remove(target);
+        events.put(target, payload);
+    }
+}
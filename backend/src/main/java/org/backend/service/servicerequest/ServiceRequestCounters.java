@@ -0,0 +1,184 @@
+package org.backend.service.servicerequest;
+
+import org.backend.model.ServiceRequest;
+import org.backend.repository.ServiceRequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live counts of service requests per (serviceType, status, documentStatus), for the officials'
+ * dashboard.
+ *
+ * Seeded from one GROUP BY at startup; ServiceRequestService then reports each create and
+ * transition, and the counters move after the transaction commits. A scheduled reconciliation
+ * re-reads the GROUP BY and corrects any drift.
+ */
+@Component
+public class ServiceRequestCounters {
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRequestCounters.class);
+
+    // Label for requests created before documentStatus existed
+    private static final String NONE = "NONE";
+
+    private final ServiceRequestRepository serviceRequestRepository;
+    private final Map<Key, AtomicLong> counts = new ConcurrentHashMap<>();
+    private final Object reconcileLock = new Object();
+    // Deltas applied while a reconciliation query is running; added on top of what it read
+    private Map<Key, Long> recording;
+    private volatile boolean initialized;
+
+    public ServiceRequestCounters(ServiceRequestRepository serviceRequestRepository) {
+        this.serviceRequestRepository = serviceRequestRepository;
+    }
+
+    /**
+     * Snapshot of the counted fields of a request, taken before and after a change.
+     */
+    public static Key keyOf(ServiceRequest request) {
+        return new Key(request.getServiceType(), request.getStatus(), request.getDocumentStatus());
+    }
+
+    /**
+     * Move one request from {@code before} to {@code after} once the current transaction commits.
+     * Either side may be null (a create or a delete).
+     */
+    public void changed(Key before, Key after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        Runnable apply = () -> {
+            if (before != null) {
+                add(before, -1);
+            }
+            if (after != null) {
+                add(after, 1);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    public void initialize() {
+        reconcile();
+        initialized = true;
+    }
+
+    /**
+     * Replace the counters with a fresh GROUP BY. Changes applied while the query runs are added on
+     * top of what it read; one that commits just before the query starts may be counted twice until
+     * the next run.
+     */
+    @Scheduled(fixedDelayString = "${service-requests.counters.reconcile-interval-ms:300000}",
+               initialDelayString = "${service-requests.counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            recording = new HashMap<>();
+        }
+        List<Object[]> rows;
+        try {
+            rows = serviceRequestRepository.countByServiceTypeAndStatus();
+        } catch (RuntimeException e) {
+            synchronized (reconcileLock) {
+                recording = null;
+            }
+            logger.error("Failed to reconcile service request counters: {}", e.getMessage(), e);
+            return;
+        }
+
+        Map<Key, Long> fresh = new HashMap<>();
+        for (Object[] row : rows) {
+            fresh.merge(new Key((String) row[0], (String) row[1], (String) row[2]), ((Number) row[3]).longValue(), Long::sum);
+        }
+        long drift = 0;
+        synchronized (reconcileLock) {
+            recording.forEach((key, delta) -> fresh.merge(key, delta, Long::sum));
+            recording = null;
+            for (Map.Entry<Key, AtomicLong> entry : counts.entrySet()) {
+                long expected = fresh.getOrDefault(entry.getKey(), 0L);
+                drift += Math.abs(entry.getValue().getAndSet(expected) - expected);
+            }
+            for (Map.Entry<Key, Long> entry : fresh.entrySet()) {
+                if (!counts.containsKey(entry.getKey())) {
+                    counts.put(entry.getKey(), new AtomicLong(entry.getValue()));
+                    drift += initialized ? entry.getValue() : 0;
+                }
+            }
+            counts.values().removeIf(count -> count.get() == 0);
+        }
+        if (initialized && drift > 0) {
+            logger.warn("Corrected service request counters by {}", drift);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long total = 0;
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<String, Long> byDocumentStatus = new TreeMap<>();
+        Map<String, Long> byServiceType = new TreeMap<>();
+        List<Map<String, Object>> breakdown = new ArrayList<>();
+        for (Map.Entry<Key, AtomicLong> entry : counts.entrySet()) {
+            long count = entry.getValue().get();
+            if (count <= 0) {
+                continue;
+            }
+            Key key = entry.getKey();
+            total += count;
+            byStatus.merge(label(key.status()), count, Long::sum);
+            byDocumentStatus.merge(label(key.documentStatus()), count, Long::sum);
+            byServiceType.merge(label(key.serviceType()), count, Long::sum);
+
+            Map<String, Object> row = new HashMap<>();
+            row.put("serviceType", label(key.serviceType()));
+            row.put("status", label(key.status()));
+            row.put("documentStatus", label(key.documentStatus()));
+            row.put("count", count);
+            breakdown.add(row);
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("total", total);
+        stats.put("byStatus", byStatus);
+        stats.put("byDocumentStatus", byDocumentStatus);
+        stats.put("byServiceType", byServiceType);
+        stats.put("breakdown", breakdown);
+        stats.put("initialized", initialized);
+        return stats;
+    }
+
+    private void add(Key key, long delta) {
+        synchronized (reconcileLock) {
+            if (recording != null) {
+                recording.merge(key, delta, Long::sum);
+            }
+            counts.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+
+    private static String label(String value) {
+        return value != null ? value : NONE;
+    }
+
+    public record Key(String serviceType, String status, String documentStatus) {
+    }
+}
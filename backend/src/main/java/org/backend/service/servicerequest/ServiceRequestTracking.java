@@ -0,0 +1,108 @@
+package org.backend.service.servicerequest;
+
+import org.backend.payload.response.TrackingStatusResponse;
+import org.backend.repository.ServiceRequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Public status lookups by tracking number.
+ *
+ * Residents poll this, so answers, including "no such request", are kept in memory for a few
+ * seconds and repeated polls for the same number cost one query per TTL. Numbers whose check
+ * digit does not match are turned away without a query at all. A status change therefore shows up
+ * at most one TTL late.
+ */
+@Service
+public class ServiceRequestTracking {
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRequestTracking.class);
+
+    private static final int MAX_CACHED = 10_000;
+
+    private record Cached(TrackingStatusResponse status, long expiresAt) {
+    }
+
+    private final ServiceRequestRepository serviceRequestRepository;
+    private final TrackingNumberGenerator trackingNumberGenerator;
+    private final long ttlNanos;
+    private final Map<String, Cached> cache = new ConcurrentHashMap<>();
+
+    public ServiceRequestTracking(ServiceRequestRepository serviceRequestRepository,
+                                  TrackingNumberGenerator trackingNumberGenerator,
+                                  @Value("${service-requests.tracking.cache-ttl-seconds:15}") long ttlSeconds) {
+        this.serviceRequestRepository = serviceRequestRepository;
+        this.trackingNumberGenerator = trackingNumberGenerator;
+        this.ttlNanos = Duration.ofSeconds(Math.max(0, ttlSeconds)).toNanos();
+    }
+
+    public Duration getTtl() {
+        return Duration.ofNanos(ttlNanos);
+    }
+
+    public Optional<TrackingStatusResponse> track(String trackingNumber) {
+        String number = TrackingNumberGenerator.normalize(trackingNumber);
+        if (!TrackingNumberGenerator.isValid(number) && !TrackingNumberGenerator.isLegacy(number)) {
+            return Optional.empty();
+        }
+
+        long now = System.nanoTime();
+        Cached cached = cache.get(number);
+        if (cached != null && now - cached.expiresAt() < 0) {
+            return Optional.ofNullable(cached.status());
+        }
+
+        TrackingStatusResponse status = serviceRequestRepository.findByTrackingNumber(number)
+                .map(request -> new TrackingStatusResponse(request.getTrackingNumber(), request.getServiceType(),
+                        request.getStatus(), request.getDocumentStatus(), request.getCreatedAt(),
+                        request.getUpdatedAt()))
+                .orElse(null);
+        if (cache.size() >= MAX_CACHED) {
+            cache.values().removeIf(entry -> now - entry.expiresAt() >= 0);
+            if (cache.size() >= MAX_CACHED) {
+                cache.clear();
+            }
+        }
+        cache.put(number, new Cached(status, now + ttlNanos));
+        return Optional.ofNullable(status);
+    }
+
+    /**
+     * Give a fresh number to requests that have none or share theirs with an older request, then
+     * make sure the unique index exists. The oldest holder of a duplicated number keeps it.
+     *
+     * @return the number of requests renumbered
+     */
+    @Transactional
+    public int repairTrackingNumbers() {
+        List<Object[]> rows = serviceRequestRepository.findTrackingNumbersToReassign();
+        int renumbered = 0;
+        String kept = null;
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            String current = (String) row[1];
+            if (current != null && !current.equals(kept)) {
+                kept = current;
+                continue;
+            }
+            String replacement = trackingNumberGenerator.next();
+            serviceRequestRepository.assignTrackingNumber(id, replacement);
+            logger.info("Service request {} renumbered from {} to {}", id, current, replacement);
+            renumbered++;
+        }
+        serviceRequestRepository.ensureTrackingNumberIndex();
+        if (renumbered > 0) {
+            cache.clear();
+            logger.info("Renumbered {} service requests with missing or duplicate tracking numbers", renumbered);
+        }
+        return renumbered;
+    }
+}
@@ -0,0 +1,260 @@
+package org.backend.service.servicerequest;
+
+import jakarta.annotation.PreDestroy;
+import org.backend.model.ServiceRequest;
+import org.backend.model.ServiceRequestTransition;
+import org.backend.repository.ServiceRequestTransitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only history of service request status changes, and turnaround percentiles built from it.
+ *
+ * ServiceRequestService reports each create and transition; once its transaction commits the entry
+ * joins an in-memory queue, and a writer thread inserts the queue in JDBC batches every flush
+ * interval, or as soon as a full batch is waiting. The request's own transaction never waits on the
+ * log. Each batch is inserted in one transaction; if it fails, its entries are inserted one at a
+ * time so a single bad entry cannot hold up the rest, and any entry that still fails is dropped
+ * with an error naming it. Entries are also dropped that way if the queue is full.
+ *
+ * Turnaround is the time from a request's creation to its document being delivered, kept per
+ * service type in a {@link TurnaroundHistogram}. The histograms are seeded from the log at startup
+ * and then updated from each delivery as it is written. Seeding holds the writer's lock, so every
+ * delivery is either already in the seed query or written, and counted, after it.
+ */
+@Service
+public class ServiceRequestTransitionLog {
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRequestTransitionLog.class);
+
+    public static final String DELIVERED = "DELIVERED";
+    private static final String NONE = "NONE";
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private static final String INSERT_SQL =
+            "INSERT INTO service_request_transitions (service_request_id, service_type, from_status, to_status, " +
+            "from_document_status, to_document_status, changed_by_id, changed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // The request's creation time travels with the entry so a delivery can be timed without a query
+    private record Pending(ServiceRequestTransition transition, LocalDateTime requestCreatedAt) {
+    }
+
+    private final ServiceRequestTransitionRepository transitionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final LinkedBlockingQueue<Pending> queue;
+    private final ScheduledExecutorService writer;
+    private final Map<String, TurnaroundHistogram> turnaround = new ConcurrentHashMap<>();
+    private volatile boolean initialized;
+
+    public ServiceRequestTransitionLog(ServiceRequestTransitionRepository transitionRepository, JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${service-requests.transitions.batch-size:200}") int batchSize,
+                                       @Value("${service-requests.transitions.queue-capacity:50000}") int capacity,
+                                       @Value("${service-requests.transitions.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.transitionRepository = transitionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new LinkedBlockingQueue<>(Math.max(this.batchSize, capacity));
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "transition-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(10, flushIntervalMs);
+        this.writer.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                // An exception escaping here would cancel the schedule
+                logger.error("Transition log flush failed: {}", e.getMessage(), e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Log the request's move from {@code before} to its current state once the current transaction
+     * commits. Pass a null {@code before} for a new request; nothing is logged if neither status
+     * changed.
+     */
+    public void record(ServiceRequestCounters.Key before, ServiceRequest after, Long changedById) {
+        String fromStatus = before != null ? before.status() : null;
+        String fromDocumentStatus = before != null ? before.documentStatus() : null;
+        if (before != null && Objects.equals(fromStatus, after.getStatus())
+                && Objects.equals(fromDocumentStatus, after.getDocumentStatus())) {
+            return;
+        }
+        Pending pending = new Pending(new ServiceRequestTransition(null, after.getId(), after.getServiceType(),
+                fromStatus, after.getStatus(), fromDocumentStatus, after.getDocumentStatus(), changedById,
+                LocalDateTime.now()), after.getCreatedAt());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(pending);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(pending);
+            }
+        });
+    }
+
+    public List<ServiceRequestTransition> getTimeline(Long serviceRequestId) {
+        return transitionRepository.findByServiceRequestIdOrderByChangedAtAscIdAsc(serviceRequestId);
+    }
+
+    /**
+     * Seed the turnaround histograms from the deliveries already in the log. The writer waits
+     * until this returns; deliveries it writes from then on are added as they are written.
+     */
+    public synchronized void initialize() {
+        Map<String, TurnaroundHistogram> seeded = new ConcurrentHashMap<>();
+        for (Object[] row : transitionRepository.findDeliveries(DELIVERED)) {
+            LocalDateTime createdAt = (LocalDateTime) row[1];
+            LocalDateTime deliveredAt = (LocalDateTime) row[2];
+            if (createdAt != null && deliveredAt != null) {
+                histogram(seeded, (String) row[0]).record(Duration.between(createdAt, deliveredAt).getSeconds());
+            }
+        }
+        turnaround.clear();
+        turnaround.putAll(seeded);
+        initialized = true;
+    }
+
+    public Map<String, Object> getTurnaroundStats() {
+        Map<String, Object> byServiceType = new TreeMap<>();
+        for (Map.Entry<String, TurnaroundHistogram> entry : turnaround.entrySet()) {
+            TurnaroundHistogram histogram = entry.getValue();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", histogram.count());
+            stats.put("meanSeconds", histogram.meanSeconds());
+            for (double percentile : PERCENTILES) {
+                stats.put("p" + (int) percentile + "Seconds", histogram.percentile(percentile));
+            }
+            byServiceType.put(entry.getKey(), stats);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("byServiceType", byServiceType);
+        result.put("initialized", initialized);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+        // Whatever the writer left behind is written on this thread
+        flush();
+    }
+
+    private void enqueue(Pending pending) {
+        if (!queue.offer(pending)) {
+            logger.error("Transition log queue full; dropped {}", describe(pending));
+            return;
+        }
+        if (queue.size() == batchSize) {
+            try {
+                writer.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the final flush picks it up
+            }
+        }
+    }
+
+    // Also holds off initialize(), so a delivery is never written between the seed query and the
+    // histograms going live
+    private synchronized void flush() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+            batch.forEach(this::countDelivery);
+            return;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to write {} service request transitions as a batch; writing them one at a time: {}",
+                    batch.size(), e.getMessage());
+        }
+        // The batch rolled back as a whole, so each entry is written exactly once from here
+        for (Pending pending : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(List.of(pending)));
+                countDelivery(pending);
+            } catch (RuntimeException e) {
+                logger.error("Failed to write transition; dropped {}: {}", describe(pending), e.getMessage());
+            }
+        }
+    }
+
+    private void insert(List<Pending> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, pending) -> {
+            ServiceRequestTransition t = pending.transition();
+            statement.setLong(1, t.getServiceRequestId());
+            statement.setString(2, t.getServiceType());
+            statement.setString(3, t.getFromStatus());
+            statement.setString(4, t.getToStatus());
+            statement.setString(5, t.getFromDocumentStatus());
+            statement.setString(6, t.getToDocumentStatus());
+            if (t.getChangedById() != null) {
+                statement.setLong(7, t.getChangedById());
+            } else {
+                statement.setNull(7, Types.BIGINT);
+            }
+            statement.setTimestamp(8, Timestamp.valueOf(t.getChangedAt()));
+        });
+    }
+
+    private void countDelivery(Pending pending) {
+        ServiceRequestTransition t = pending.transition();
+        if (!DELIVERED.equals(t.getToDocumentStatus()) || DELIVERED.equals(t.getFromDocumentStatus())
+                || pending.requestCreatedAt() == null) {
+            return;
+        }
+        // Before seeding, the row is left for the seed query to count
+        if (initialized) {
+            long seconds = Duration.between(pending.requestCreatedAt(), t.getChangedAt()).getSeconds();
+            histogram(turnaround, t.getServiceType()).record(seconds);
+        }
+    }
+
+    private static String describe(Pending pending) {
+        ServiceRequestTransition t = pending.transition();
+        return String.format("service request %d %s/%s -> %s/%s at %s", t.getServiceRequestId(), t.getFromStatus(),
+                t.getFromDocumentStatus(), t.getToStatus(), t.getToDocumentStatus(), t.getChangedAt());
+    }
+
+    private static TurnaroundHistogram histogram(Map<String, TurnaroundHistogram> histograms, String serviceType) {
+        return histograms.computeIfAbsent(serviceType != null ? serviceType : NONE, type -> new TurnaroundHistogram());
+    }
+}
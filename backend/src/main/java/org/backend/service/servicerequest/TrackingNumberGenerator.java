@@ -0,0 +1,123 @@
+package org.backend.service.servicerequest;
+
+import org.backend.repository.TrackingNumberSequenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hands out tracking numbers of the form {@code BR-yyyyMMdd-NNNNC}: the day, a sequence number
+ * that restarts every day (four digits, more after the 9999th request), and a Damm check digit
+ * over all the digits before it. The check digit catches every single mistyped digit and every
+ * swap of two neighbouring digits, so a resident's typo is rejected before it reaches the
+ * database.
+ *
+ * Sequence numbers come from the tracking_number_sequences row for the day, reserved in blocks so
+ * most requests get theirs from memory. Each block is reserved in its own transaction, so a
+ * rolled-back request never returns numbers to the pool and two instances never share one; the
+ * numbers of a block left unused at shutdown are skipped.
+ */
+@Component
+public class TrackingNumberGenerator {
+
+    private static final String PREFIX = "BR-";
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern CURRENT = Pattern.compile("BR-(\\d{8})-(\\d{5,})");
+    // Random numbers issued before the sequence existed: four digits and no check digit
+    private static final Pattern LEGACY = Pattern.compile("BR-\\d{8}-\\d{4}");
+
+    private static final int[][] DAMM = {
+            {0, 3, 1, 7, 5, 9, 8, 6, 4, 2},
+            {7, 0, 9, 2, 1, 5, 4, 8, 6, 3},
+            {4, 2, 0, 6, 8, 7, 1, 3, 5, 9},
+            {1, 7, 5, 0, 9, 8, 3, 4, 2, 6},
+            {6, 1, 2, 3, 0, 4, 5, 9, 7, 8},
+            {3, 6, 7, 4, 2, 0, 9, 5, 8, 1},
+            {5, 8, 6, 9, 7, 2, 0, 1, 3, 4},
+            {8, 9, 4, 5, 3, 6, 2, 0, 1, 7},
+            {9, 4, 3, 8, 6, 1, 7, 2, 0, 5},
+            {2, 5, 8, 1, 4, 3, 6, 7, 9, 0}
+    };
+
+    private final TrackingNumberSequenceRepository sequenceRepository;
+    private final TransactionTemplate reserveTransaction;
+    private final int blockSize;
+
+    private LocalDate blockDay;
+    private long nextInBlock;
+    private long blockEnd;
+
+    public TrackingNumberGenerator(TrackingNumberSequenceRepository sequenceRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${service-requests.tracking.block-size:20}") int blockSize) {
+        this.sequenceRepository = sequenceRepository;
+        this.reserveTransaction = new TransactionTemplate(transactionManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    public synchronized String next() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(blockDay) || nextInBlock >= blockEnd) {
+            Long end = reserveTransaction.execute(tx -> sequenceRepository.reserve(today, blockSize));
+            if (end == null) {
+                throw new IllegalStateException("Could not reserve tracking numbers for " + today);
+            }
+            blockDay = today;
+            blockEnd = end;
+            nextInBlock = end - blockSize;
+        }
+        return format(today, nextInBlock++);
+    }
+
+    public static String format(LocalDate day, long sequence) {
+        String digits = DAY.format(day) + String.format(Locale.ROOT, "%04d", sequence);
+        return PREFIX + digits.substring(0, 8) + "-" + digits.substring(8) + checkDigit(digits);
+    }
+
+    /**
+     * Upper-case and trim what a resident typed, so lookups are not thrown by case or whitespace.
+     */
+    public static String normalize(String trackingNumber) {
+        return trackingNumber == null ? null : trackingNumber.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether the value is a well-formed tracking number from this generator with a matching check
+     * digit.
+     */
+    public static boolean isValid(String trackingNumber) {
+        if (trackingNumber == null) {
+            return false;
+        }
+        Matcher matcher = CURRENT.matcher(trackingNumber);
+        return matcher.matches() && damm(matcher.group(1) + matcher.group(2)) == 0;
+    }
+
+    /**
+     * Whether the value has the shape of a tracking number issued before check digits were added.
+     */
+    public static boolean isLegacy(String trackingNumber) {
+        return trackingNumber != null && LEGACY.matcher(trackingNumber).matches();
+    }
+
+    static int checkDigit(String digits) {
+        return damm(digits);
+    }
+
+    private static int damm(String digits) {
+        int interim = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            interim = DAMM[interim][digits.charAt(i) - '0'];
+        }
+        return interim;
+    }
+}
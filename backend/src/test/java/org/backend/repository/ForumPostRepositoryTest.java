@@ -0,0 +1,104 @@
+package org.backend.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.backend.model.ForumComment;
+import org.backend.model.ForumPost;
+import org.backend.model.User;
+import org.backend.payload.response.ForumPostResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ContextConfiguration(classes = ForumPostRepositoryTest.JpaConfig.class)
+public class ForumPostRepositoryTest {
+
+    // Keeps the slice to JPA only instead of the application's full component scan
+    @Configuration
+    @EntityScan("org.backend.model")
+    @EnableJpaRepositories("org.backend.repository")
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ForumPostRepository postRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int u = 0; u < 3; u++) {
+            User author = new User();
+            author.setUsername("author" + u);
+            author.setEmail("author" + u + "@example.com");
+            author.setPassword("secret");
+            author.setFirstName("First" + u);
+            author.setLastName("Last" + u);
+            entityManager.persist(author);
+
+            for (int p = 0; p < 10; p++) {
+                ForumPost post = new ForumPost();
+                post.setTitle("Post " + u + "-" + p);
+                post.setContent("Content");
+                post.setAuthor(author);
+                entityManager.persist(post);
+
+                ForumComment comment = new ForumComment();
+                comment.setContent("Comment");
+                comment.setAuthor(author);
+                comment.setPost(post);
+                entityManager.persist(comment);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        EntityManagerFactory emf = entityManager.getEntityManager().getEntityManagerFactory();
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void feedSummaries_IssueOneStatementRegardlessOfPageSize() {
+        for (int size : new int[]{5, 25}) {
+            // Arrange
+            statistics.clear();
+
+            // Act
+            Slice<ForumPostResponse> slice = postRepository.findFeedSummaries(PageRequest.of(0, size));
+
+            // Assert
+            assertEquals(size, slice.getNumberOfElements());
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+        }
+    }
+
+    @Test
+    void feedSummaries_CarryAuthorAndCounts() {
+        // Act
+        ForumPostResponse first = postRepository.findFeedSummaries(PageRequest.of(0, 1)).getContent().get(0);
+
+        // Assert
+        assertNotNull(first.getAuthorUsername());
+        assertEquals(0, first.getLikeCount());
+        assertEquals(1L, first.getCommentCount());
+    }
+}
@@ -0,0 +1,112 @@
+package org.backend.service.forum;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ForumSearchIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ForumSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ForumSearchIndex(tempDir.resolve("forum.idx").toString());
+        index.indexPost(1L, "Water interruption on Mabini Street", "Walang tubig sa Mabini mula 8am hanggang 5pm.");
+        index.indexPost(2L, "Basketball league", "Registration for the barangay basketball league is open.");
+        index.indexComment(10L, 2L, "Saan po ang registration ng basketball?");
+        index.indexComment(11L, 1L, "May tubig na po dito sa Mabini.");
+    }
+
+    @Test
+    void analyze_FoldsDiacriticsAndDropsStopwords() {
+        // Act
+        List<String> terms = ForumTextAnalyzer.analyze("Ang Señor ng mga Barangays, at the PLAZA!");
+
+        // Assert
+        assertEquals(List.of("senor", "barangay", "plaza"), terms);
+    }
+
+    @Test
+    void search_RanksTitleMatchesAboveCommentMentions() {
+        // Act
+        ForumSearchIndex.Result result = index.search("mabini", null, 0, 10);
+
+        // Assert
+        assertEquals(2, result.getTotalHits());
+        assertEquals(ForumSearchIndex.DocType.POST, result.getHits().get(0).getType());
+        assertEquals(1L, result.getHits().get(0).getId());
+        assertEquals(11L, result.getHits().get(1).getId());
+    }
+
+    @Test
+    void search_FiltersByTypeAndPages() {
+        // Act
+        ForumSearchIndex.Result comments = index.search("basketball registration", ForumSearchIndex.DocType.COMMENT, 0, 10);
+        ForumSearchIndex.Result secondPage = index.search("basketball", null, 1, 1);
+
+        // Assert
+        assertEquals(1, comments.getTotalHits());
+        assertEquals(2L, comments.getHits().get(0).getPostId());
+        assertEquals(2, secondPage.getTotalHits());
+        assertEquals(1, secondPage.getHits().size());
+    }
+
+    @Test
+    void removePost_AlsoRemovesItsComments() {
+        // Act
+        index.removePost(2L);
+
+        // Assert
+        assertEquals(0, index.search("basketball", null, 0, 10).getTotalHits());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void indexPost_ReplacesPreviousVersion() {
+        // Act
+        index.indexPost(2L, "Volleyball league", "Registration is open.");
+
+        // Assert
+        assertEquals(1, index.search("basketball", null, 0, 10).getTotalHits());
+        assertEquals(1, index.search("volleyball", null, 0, 10).getTotalHits());
+    }
+
+    @Test
+    void saveAndLoad_RoundTripsTheIndex() throws Exception {
+        // Arrange
+        index.save(1234L);
+        ForumSearchIndex restored = new ForumSearchIndex(tempDir.resolve("forum.idx").toString());
+
+        // Act
+        long savedAt = restored.load();
+
+        // Assert
+        assertEquals(1234L, savedAt);
+        assertEquals(index.size(), restored.size());
+        assertEquals(index.search("tubig", null, 0, 10).getTotalHits(), restored.search("tubig", null, 0, 10).getTotalHits());
+        assertFalse(restored.isDirty());
+    }
+
+    @Test
+    void rebuild_ReplaysWritesMadeWhileLoading() {
+        // Act
+        index.rebuild(builder -> {
+            builder.indexPost(1L, "Water interruption", "Mabini street");
+            // Lands on the live index while the rebuild is still reading
+            index.indexPost(3L, "Clean-up drive", "Saturday morning clean-up");
+        });
+
+        // Assert
+        assertEquals(2, index.size());
+        assertEquals(1, index.search("drive", null, 0, 10).getTotalHits());
+        assertEquals(0, index.search("basketball", null, 0, 10).getTotalHits());
+    }
+}
@@ -0,0 +1,77 @@
+package org.backend.service.moderation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReportBloomFilterTest {
+
+    private static final int POST = ReportDuplicateFilter.Kind.POST_REPORT.ordinal();
+    private static final int COMMENT = ReportDuplicateFilter.Kind.COMMENT_REPORT.ordinal();
+
+    @Test
+    void mightContain_NeverMissesAnAddedPair() {
+        // Arrange
+        ReportBloomFilter filter = new ReportBloomFilter(10_000, 0.01);
+        for (long post = 1; post <= 100; post++) {
+            for (long reporter = 1; reporter <= 100; reporter++) {
+                filter.put(POST, post, reporter);
+            }
+        }
+
+        // Act & Assert
+        for (long post = 1; post <= 100; post++) {
+            for (long reporter = 1; reporter <= 100; reporter++) {
+                assertTrue(filter.mightContain(POST, post, reporter), "missed post " + post + " reporter " + reporter);
+            }
+        }
+    }
+
+    @Test
+    void mightContain_KeepsFalsePositivesNearTheConfiguredRate() {
+        // Arrange
+        ReportBloomFilter filter = new ReportBloomFilter(10_000, 0.01);
+        for (long i = 0; i < 10_000; i++) {
+            filter.put(POST, i, i + 1);
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (long i = 0; i < 100_000; i++) {
+            if (filter.mightContain(POST, 1_000_000 + i, i + 1)) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(falsePositives < 2_000, "false positive rate too high: " + falsePositives + " / 100000");
+    }
+
+    @Test
+    void mightContain_SeparatesKinds() {
+        // Arrange
+        ReportBloomFilter filter = new ReportBloomFilter(1_000, 0.01);
+        filter.put(POST, 42L, 7L);
+
+        // Act & Assert
+        assertTrue(filter.mightContain(POST, 42L, 7L));
+        assertFalse(filter.mightContain(COMMENT, 42L, 7L));
+        assertFalse(filter.mightContain(POST, 7L, 42L));
+    }
+
+    @Test
+    void isSaturated_OnceCapacityIsExceeded() {
+        // Arrange
+        ReportBloomFilter filter = new ReportBloomFilter(3, 0.01);
+        filter.put(POST, 1L, 1L);
+        filter.put(POST, 2L, 1L);
+        filter.put(POST, 3L, 1L);
+        assertFalse(filter.isSaturated());
+
+        // Act
+        filter.put(POST, 4L, 1L);
+
+        // Assert
+        assertTrue(filter.isSaturated());
+    }
+}
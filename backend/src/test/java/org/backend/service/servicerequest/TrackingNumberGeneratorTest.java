@@ -0,0 +1,82 @@
+package org.backend.service.servicerequest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrackingNumberGeneratorTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 17);
+
+    @Test
+    void format_PadsTheSequenceAndAppendsACheckDigit() {
+        // Act
+        String trackingNumber = TrackingNumberGenerator.format(DAY, 42);
+
+        // Assert
+        assertTrue(trackingNumber.matches("BR-20261017-0042\\d"), trackingNumber);
+        assertTrue(TrackingNumberGenerator.isValid(trackingNumber));
+        assertFalse(TrackingNumberGenerator.isLegacy(trackingNumber));
+    }
+
+    @Test
+    void format_GrowsPastFourDigits() {
+        // Act
+        String trackingNumber = TrackingNumberGenerator.format(DAY, 123_456);
+
+        // Assert
+        assertTrue(trackingNumber.matches("BR-20261017-123456\\d"), trackingNumber);
+        assertTrue(TrackingNumberGenerator.isValid(trackingNumber));
+    }
+
+    @Test
+    void isValid_RejectsEverySingleDigitChange() {
+        // Arrange
+        String trackingNumber = TrackingNumberGenerator.format(DAY, 421);
+
+        // Act & Assert
+        for (int i = 0; i < trackingNumber.length(); i++) {
+            char original = trackingNumber.charAt(i);
+            if (!Character.isDigit(original)) {
+                continue;
+            }
+            for (char digit = '0'; digit <= '9'; digit++) {
+                if (digit == original) {
+                    continue;
+                }
+                String typo = trackingNumber.substring(0, i) + digit + trackingNumber.substring(i + 1);
+                assertFalse(TrackingNumberGenerator.isValid(typo), "accepted " + typo);
+            }
+        }
+    }
+
+    @Test
+    void isValid_RejectsSwappedNeighbours() {
+        for (long sequence = 0; sequence < 2_000; sequence++) {
+            // Arrange
+            String trackingNumber = TrackingNumberGenerator.format(DAY, sequence);
+
+            // Act & Assert
+            for (int i = 0; i + 1 < trackingNumber.length(); i++) {
+                char a = trackingNumber.charAt(i);
+                char b = trackingNumber.charAt(i + 1);
+                if (a == b || !Character.isDigit(a) || !Character.isDigit(b)) {
+                    continue;
+                }
+                String swapped = trackingNumber.substring(0, i) + b + a + trackingNumber.substring(i + 2);
+                assertFalse(TrackingNumberGenerator.isValid(swapped), "accepted " + swapped);
+            }
+        }
+    }
+
+    @Test
+    void isLegacy_MatchesOnlyTheOldRandomFormat() {
+        // Act & Assert
+        assertTrue(TrackingNumberGenerator.isLegacy("BR-20250506-0421"));
+        assertFalse(TrackingNumberGenerator.isLegacy("BR-20250506-04213"));
+        assertFalse(TrackingNumberGenerator.isLegacy("br-20250506-0421"));
+        assertEquals("BR-20250506-0421", TrackingNumberGenerator.normalize(" br-20250506-0421 "));
+    }
+}
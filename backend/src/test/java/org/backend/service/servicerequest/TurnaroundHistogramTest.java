@@ -0,0 +1,63 @@
+package org.backend.service.servicerequest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TurnaroundHistogramTest {
+
+    @Test
+    void percentile_IsNullWhenEmpty() {
+        // Arrange
+        TurnaroundHistogram histogram = new TurnaroundHistogram();
+
+        // Act & Assert
+        assertNull(histogram.percentile(50));
+        assertNull(histogram.meanSeconds());
+        assertEquals(0, histogram.count());
+    }
+
+    @Test
+    void percentile_StaysWithinTheBucketPrecision() {
+        // Arrange
+        TurnaroundHistogram histogram = new TurnaroundHistogram();
+        for (long seconds = 1; seconds <= 100_000; seconds++) {
+            histogram.record(seconds);
+        }
+
+        // Act & Assert
+        assertEquals(100_000, histogram.count());
+        assertEquals(50_000, histogram.meanSeconds(), 1);
+        for (double percentile : new double[] {50, 90, 95, 99}) {
+            double expected = percentile * 1_000;
+            double actual = histogram.percentile(percentile);
+            assertEquals(expected, actual, expected * 0.03, "p" + percentile);
+        }
+    }
+
+    @Test
+    void percentile_HandlesSkewedDurations() {
+        // Arrange: most requests take an hour, a few take a week
+        TurnaroundHistogram histogram = new TurnaroundHistogram();
+        for (int i = 0; i < 980; i++) {
+            histogram.record(3_600);
+        }
+        for (int i = 0; i < 20; i++) {
+            histogram.record(604_800);
+        }
+
+        // Act & Assert
+        assertEquals(3_600, histogram.percentile(50), 3_600 * 0.03);
+        assertEquals(3_600, histogram.percentile(98), 3_600 * 0.03);
+        assertEquals(604_800, histogram.percentile(99), 604_800 * 0.03);
+    }
+
+    @Test
+    void bucketOf_PutsSubSecondAndHugeDurationsAtTheEnds() {
+        // Act & Assert
+        assertEquals(0, TurnaroundHistogram.bucketOf(0));
+        assertEquals(0, TurnaroundHistogram.bucketOf(-5));
+        assertEquals(1, TurnaroundHistogram.bucketOf(1));
+        assertEquals(TurnaroundHistogram.BUCKETS - 1, TurnaroundHistogram.bucketOf(Long.MAX_VALUE));
+    }
+}
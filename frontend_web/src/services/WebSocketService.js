@@ -23,6 +23,18 @@ class WebSocketService {
         }
     }
 
+    isOfficial() {
+        const userData = localStorage.getItem('user');
+        if (!userData) return false;
+        try {
+            const user = JSON.parse(userData);
+            return Array.isArray(user.roles) && user.roles.includes('ROLE_OFFICIAL');
+        } catch (error) {
+            console.error('Error parsing user:', error);
+            return false;
+        }
+    }
+
     connect() {
         const token = this.getToken();
         
@@ -96,19 +108,26 @@ class WebSocketService {
 
     subscribeToServiceRequests() {
         if (this.stompClient && this.stompClient.connected) {
-            try {
-                this.stompClient.subscribe('/topic/service-requests', (message) => {
-                    try {
-                        const serviceRequest = JSON.parse(message.body);
-                        this.notifySubscribers('service-requests', serviceRequest);
-                    } catch (error) {
-                        console.error('Error parsing service request message:', error);
-                    }
-                });
-                console.log('Subscribed to service requests');
-            } catch (error) {
-                console.error('Error subscribing to service requests:', error);
+            // Residents receive updates to their own requests; officials also receive everyone's
+            const destinations = ['/user/queue/service-requests'];
+            if (this.isOfficial()) {
+                destinations.push('/topic/officials/service-requests');
             }
+            destinations.forEach((destination) => {
+                try {
+                    this.stompClient.subscribe(destination, (message) => {
+                        try {
+                            const serviceRequest = JSON.parse(message.body);
+                            this.notifySubscribers('service-requests', serviceRequest);
+                        } catch (error) {
+                            console.error('Error parsing service request message:', error);
+                        }
+                    });
+                    console.log(`Subscribed to service requests at ${destination}`);
+                } catch (error) {
+                    console.error('Error subscribing to service requests:', error);
+                }
+            });
         }
     }
 